@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package com.oracle.tools.fx.monkey;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+import javafx.application.Platform;
+
+/**
+ * Utility methods for the JMH benchmarks.
+ */
+public class BenchUtils {
+    private static boolean started;
+
+    /** starts the FX toolkit once per JVM */
+    public static synchronized void startFx() throws Exception {
+        if (!started) {
+            started = true;
+            CountDownLatch latch = new CountDownLatch(1);
+            Platform.startup(latch::countDown);
+            Platform.setImplicitExit(false);
+            latch.await();
+        }
+    }
+
+    /** runs the code in the FX application thread and waits for the result */
+    public static <T> T runAndWait(Callable<T> c) throws Exception {
+        if (Platform.isFxApplicationThread()) {
+            return c.call();
+        }
+
+        CountDownLatch latch = new CountDownLatch(1);
+        AtomicReference<Object> result = new AtomicReference<>();
+        Platform.runLater(() -> {
+            try {
+                result.set(c.call());
+            } catch (Throwable e) {
+                result.set(e);
+            } finally {
+                latch.countDown();
+            }
+        });
+        latch.await();
+
+        Object v = result.get();
+        if (v instanceof Exception e) {
+            throw e;
+        } else if (v instanceof Error e) {
+            throw e;
+        }
+        return (T)v;
+    }
+
+    /** runs the code in the FX application thread and waits for it to complete */
+    public static void runAndWait(Runnable r) throws Exception {
+        runAndWait(() -> {
+            r.run();
+            return null;
+        });
+    }
+
+    public static File createTempDir() throws IOException {
+        File dir = Files.createTempDirectory("monkey-bench").toFile();
+        dir.deleteOnExit();
+        return dir;
+    }
+
+    public static void deleteRecursively(File f) {
+        if (f != null) {
+            File[] fs = f.listFiles();
+            if (fs != null) {
+                for (File ch: fs) {
+                    deleteRecursively(ch);
+                }
+            }
+            f.delete();
+        }
+    }
+}
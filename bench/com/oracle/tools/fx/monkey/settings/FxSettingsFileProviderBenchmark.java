@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package com.oracle.tools.fx.monkey.settings;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import com.oracle.tools.fx.monkey.BenchUtils;
+
+/**
+ * Measures loading and saving of the settings file with the specified number of keys.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FxSettingsFileProviderBenchmark {
+    @Param({"1000", "10000", "50000"})
+    public int keys;
+    private File dir;
+    private FxSettingsFileProvider provider;
+    private int counter;
+
+    @Setup
+    public void setup() throws IOException {
+        dir = BenchUtils.createTempDir();
+        provider = new FxSettingsFileProvider(dir);
+        SettingsData.populate(provider, keys);
+        provider.save();
+    }
+
+    @TearDown
+    public void tearDown() {
+        BenchUtils.deleteRecursively(dir);
+    }
+
+    @Benchmark
+    public ISettingsProvider load() throws IOException {
+        FxSettingsFileProvider p = new FxSettingsFileProvider(dir);
+        p.load();
+        return p;
+    }
+
+    @Benchmark
+    public void loadAndReadStreams(Blackhole bh) throws IOException {
+        FxSettingsFileProvider p = new FxSettingsFileProvider(dir);
+        p.load();
+        for (int i = 1; i < keys; i += 2) {
+            SStream s = p.getSStream(SettingsData.key(i));
+            bh.consume(s.nextDouble(-1));
+            bh.consume(s.nextDouble(-1));
+        }
+    }
+
+    @Benchmark
+    public void save() throws IOException {
+        provider.save();
+    }
+
+    /** the part of the save performed in the FX application thread */
+    @Benchmark
+    public ISettingsProvider.Saver snapshot() {
+        return provider.snapshot();
+    }
+
+    @Benchmark
+    public void saveOneChange() throws IOException {
+        provider.set(SettingsData.key(0), String.valueOf(++counter));
+        provider.save();
+    }
+}
@@ -0,0 +1,204 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package com.oracle.tools.fx.monkey.settings;
+
+import java.io.File;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.scene.control.CheckBox;
+import javafx.scene.control.ComboBox;
+import javafx.scene.control.Label;
+import javafx.scene.control.SplitPane;
+import javafx.scene.layout.VBox;
+import javafx.stage.Stage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import com.oracle.tools.fx.monkey.BenchUtils;
+import com.oracle.tools.fx.monkey.util.FX;
+
+/**
+ * Measures storing and restoring of a synthetic scene graph,
+ * either wide (breadth first, fanout of 6) or deep (20 levels of nested containers).
+ * The stage is never shown, but the toolkit must be able to start
+ * (use -Dglass.platform=Headless on machines without a display).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FxSettingsSchemaBenchmark {
+    private static final int FANOUT = 6;
+    private static final int DEPTH = 20;
+    @Param({"5000"})
+    public int nodes;
+    @Param({"wide", "deep"})
+    public String shape;
+    private File dir;
+    private Parent root;
+
+    @Setup
+    public void setup() throws Exception {
+        BenchUtils.startFx();
+        dir = BenchUtils.createTempDir();
+        BenchUtils.runAndWait(() -> {
+            FxSettings.useProvider(new FxSettingsFileProvider(dir));
+
+            root = "deep".equals(shape) ? createDeepSceneGraph(nodes, DEPTH) : createSceneGraph(nodes);
+            Stage stage = new Stage();
+            FX.name(stage, "Bench");
+            stage.setScene(new Scene(root));
+            // skins add the SplitPane items to the scene graph
+            root.applyCss();
+            root.layout();
+            // populate the settings
+            FxSettings.store(root);
+        });
+    }
+
+    @TearDown
+    public void tearDown() {
+        BenchUtils.deleteRecursively(dir);
+    }
+
+    @Benchmark
+    public void storeNode() throws Exception {
+        BenchUtils.runAndWait(() -> FxSettings.store(root));
+    }
+
+    @Benchmark
+    public void restoreNode() throws Exception {
+        BenchUtils.runAndWait(() -> FxSettings.restore(root));
+    }
+
+    /** creates a scene graph with the specified number of nodes, breadth first */
+    public static Parent createSceneGraph(int count) {
+        VBox root = new VBox();
+        FX.name(root, "root");
+
+        ArrayDeque<List<Node>> pending = new ArrayDeque<>();
+        pending.add(root.getChildren());
+        int n = 1;
+        int seq = 0;
+        while (n < count) {
+            List<Node> parent = pending.remove();
+            for (int i = 0; (i < FANOUT) && (n < count); i++) {
+                Node ch;
+                seq++;
+                switch (seq % 5) {
+                case 0:
+                    SplitPane sp = new SplitPane();
+                    FX.name(sp, "split" + seq);
+                    pending.add(sp.getItems());
+                    ch = sp;
+                    break;
+                case 1:
+                    VBox b = new VBox();
+                    FX.name(b, "box" + seq);
+                    pending.add(b.getChildren());
+                    ch = b;
+                    break;
+                case 2:
+                    CheckBox c = new CheckBox("check " + seq);
+                    FX.name(c, "check" + seq);
+                    c.setSelected((seq % 2) == 0);
+                    ch = c;
+                    break;
+                case 3:
+                    ComboBox<String> cb = new ComboBox<>();
+                    FX.name(cb, "combo" + seq);
+                    cb.getItems().addAll("1", "2", "3");
+                    cb.getSelectionModel().select(seq % 3);
+                    ch = cb;
+                    break;
+                default:
+                    ch = new Label("label " + seq);
+                    break;
+                }
+                parent.add(ch);
+                n++;
+            }
+        }
+        return root;
+    }
+
+    /**
+     * creates a scene graph with the specified number of nodes, with the leaves spread evenly
+     * across the specified number of nested SplitPane and VBox levels
+     */
+    public static Parent createDeepSceneGraph(int count, int depth) {
+        VBox root = new VBox();
+        FX.name(root, "root");
+
+        int leaves = Math.max(1, (count - depth) / depth);
+        List<Node> parent = root.getChildren();
+        int seq = 0;
+        for (int level = 0; level < depth; level++) {
+            for (int i = 0; i < leaves; i++) {
+                seq++;
+                if ((seq % 2) == 0) {
+                    CheckBox c = new CheckBox("check " + seq);
+                    FX.name(c, "check" + seq);
+                    c.setSelected((seq % 4) == 0);
+                    parent.add(c);
+                } else {
+                    ComboBox<String> cb = new ComboBox<>();
+                    FX.name(cb, "combo" + seq);
+                    cb.getItems().addAll("1", "2", "3");
+                    cb.getSelectionModel().select(seq % 3);
+                    parent.add(cb);
+                }
+            }
+
+            if ((level % 2) == 0) {
+                SplitPane sp = new SplitPane();
+                FX.name(sp, "split" + level);
+                parent.add(sp);
+                parent = sp.getItems();
+            } else {
+                VBox b = new VBox();
+                FX.name(b, "box" + level);
+                parent.add(b);
+                parent = b.getChildren();
+            }
+        }
+        return root;
+    }
+}
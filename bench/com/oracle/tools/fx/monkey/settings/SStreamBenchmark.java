@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package com.oracle.tools.fx.monkey.settings;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures SStream round trips, both in memory and through the text representation
+ * used by the settings file.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SStreamBenchmark {
+    private static final String KEY = "FX.MainWindow0";
+    private FxSettingsFileProvider provider;
+    private String text;
+
+    @Setup
+    public void setup() {
+        provider = new FxSettingsFileProvider(null);
+        text = SettingsData.stream(7).toString().replace("[", "").replace("]", "");
+    }
+
+    @Benchmark
+    public void writerReader(Blackhole bh) {
+        SStream w = SettingsData.stream(7);
+        SStream r = SStream.reader(w.toArray());
+        read(r, bh);
+    }
+
+    @Benchmark
+    public void parseText(Blackhole bh) {
+        // getSStream() parses the string value loaded from the file
+        provider.set(KEY, text);
+        SStream r = provider.getSStream(KEY);
+        read(r, bh);
+    }
+
+    private static void read(SStream r, Blackhole bh) {
+        bh.consume(r.nextDouble(-1));
+        bh.consume(r.nextDouble(-1));
+        bh.consume(r.nextDouble(-1));
+        bh.consume(r.nextDouble(-1));
+        bh.consume(r.nextString(null));
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package com.oracle.tools.fx.monkey.settings;
+
+/**
+ * Generates synthetic settings resembling those accumulated by a long-lived profile.
+ */
+public class SettingsData {
+    private static final String[] PATHS = {
+        "MainWindow0.contentPane.BorderPane.vsplit.hsplit",
+        "MainWindow0.MainSplit.pageSelector",
+        "ClipboardViewer0.BorderPane.split",
+        "CSSPlayground0.BorderPane.VBox.GridPane",
+    };
+
+    /** populates the provider with the specified number of keys, half of which are streams */
+    public static void populate(ISettingsProvider p, int count) {
+        for (int i = 0; i < count; i++) {
+            String k = key(i);
+            if ((i % 2) == 0) {
+                p.set(k, String.valueOf(i));
+            } else {
+                p.set(k, stream(i));
+            }
+        }
+    }
+
+    public static String key(int i) {
+        return "FX." + PATHS[i % PATHS.length] + ".Pane" + (i / PATHS.length) + ".ComboBox";
+    }
+
+    public static SStream stream(int i) {
+        SStream s = SStream.writer();
+        s.add(i * 1.5);
+        s.add(i * 2.5);
+        s.add(1200.0);
+        s.add(800.0);
+        s.add("N");
+        return s;
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package com.oracle.tools.fx.monkey.util;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the HugeTextModel overhead while scrolling, without the control:
+ * each invocation is one frame which requests the visible paragraphs, then moves the top line
+ * by the specified step, wrapping around at the end of the model.
+ * The scores are in paragraphs per second.
+ * <p>
+ * A step of 1 scrolls line by line (mostly cache hits), a step of 50 pages down,
+ * and a large step flings through all of the 2^31 lines.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HugeTextModelBenchmark {
+    private static final int VISIBLE = 50;
+    @Param({"1", "50", "1000003"})
+    public int step;
+    private HugeTextModel model;
+    private int top;
+
+    @Setup
+    public void setup() {
+        model = new HugeTextModel();
+        top = 0;
+    }
+
+    private void next() {
+        int size = model.size();
+        top = (int)((top + (long)step) % (size - VISIBLE));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(VISIBLE)
+    public void getParagraph(Blackhole bh) {
+        for (int i = 0; i < VISIBLE; i++) {
+            bh.consume(model.getParagraph(top + i));
+        }
+        next();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(VISIBLE)
+    public void getPlainText(Blackhole bh) {
+        for (int i = 0; i < VISIBLE; i++) {
+            bh.consume(model.getPlainText(top + i));
+        }
+        next();
+    }
+}
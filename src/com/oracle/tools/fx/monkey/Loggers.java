@@ -24,84 +24,276 @@
  */
 package com.oracle.tools.fx.monkey;
 
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
 import javafx.beans.property.SimpleBooleanProperty;
 
 /**
- * Various logs (write to stdout).
+ * Various logs.
+ * <p>
+ * By default, the log events are encoded in the calling thread and written to stdout as JSON
+ * by a background thread.  To write to a file, specify -Dloggers.file=<FILE> vm argument.
+ * To write a compact binary format instead of JSON, specify -Dloggers.format=binary vm argument
+ * (requires loggers.file).  The binary record format (big endian):
+ * <pre>
+ * long time, STR log, int count, count x { STR name, value }
+ * value: 'N' | 'Z' boolean | 'I' int | 'J' long | 'D' double | 'S' STR
+ * STR: int length, byte[] (utf-8)
+ * </pre>
+ * A different destination can be set with {@link #setSink(Sink)}.
  */
 public class Loggers {
     public static final Logger accessibility = new Logger("accessibility");
+    public static final Logger settings = new Logger("settings");
+    public static final Logger data = new Logger("data");
+    public static final Logger pages = new Logger("pages");
+    private static volatile Sink sink;
 
-    private static String toJson(long time, String name, Object[] nameValuePairs) {
-        StringBuilder sb = new StringBuilder();
-        sb.append("{");
-        kv(sb, "time", time);
-        sb.append(", ");
-        kv(sb, "log", name);
-        for(int i=0; i<nameValuePairs.length; ) {
-            Object k = nameValuePairs[i++];
-            String ks = escape(k.toString());
-            Object v = nameValuePairs[i++];
-            String vs = formatValue(v);
-            sb.append(", ");
-            kv(sb, ks, vs);
+    /**
+     * Receives the log events from any thread.
+     */
+    @FunctionalInterface
+    public interface Sink {
+        public void log(long time, String name, Object[] nameValuePairs);
+    }
+
+    /** sets the sink which receives the log events from all the loggers */
+    public static void setSink(Sink s) {
+        sink = s;
+    }
+
+    private static Sink sink() {
+        Sink s = sink;
+        if (s == null) {
+            synchronized (Loggers.class) {
+                if (sink == null) {
+                    sink = createDefaultSink();
+                }
+                s = sink;
+            }
         }
-        sb.append("}");
-        return sb.toString();
+        return s;
     }
 
-    private static void kv(StringBuilder sb, String name, Object value) {
-        String v = formatValue(value);
-        sb.append(name);
-        sb.append(":");
-        sb.append(v);
+    private static Sink createDefaultSink() {
+        String file = System.getProperty("loggers.file");
+        boolean binary = "binary".equals(System.getProperty("loggers.format"));
+        OutputStream out = System.out;
+        if (file != null) {
+            try {
+                out = new FileOutputStream(file);
+            } catch (IOException e) {
+                e.printStackTrace();
+                binary = false;
+            }
+        } else if (binary) {
+            System.err.println("loggers.format=binary requires loggers.file, using JSON");
+            binary = false;
+        }
+        return new AsyncSink(out, binary);
     }
 
-    private static String formatValue(Object v) {
-        if (v == null) {
-            return "null";
-        } else if(v instanceof Number) {
-            return v.toString();
-        } else {
-            return escape(v.toString());
+    /**
+     * Encodes the events into a reusable buffer, one instance per thread.
+     */
+    private static class Encoder {
+        private static final char[] HEX = "0123456789abcdef".toCharArray();
+        private final StringBuilder sb = new StringBuilder(256);
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        private final DataOutputStream out = new DataOutputStream(bytes);
+
+        public String toJson(long time, String name, Object[] nameValuePairs) {
+            sb.setLength(0);
+            sb.append("{\"time\":").append(time);
+            sb.append(", \"log\":");
+            escape(sb, name);
+            for (int i = 0; i < nameValuePairs.length; ) {
+                Object k = nameValuePairs[i++];
+                Object v = (i < nameValuePairs.length) ? nameValuePairs[i++] : null;
+                sb.append(", ");
+                escape(sb, String.valueOf(k));
+                sb.append(':');
+                if (v == null) {
+                    sb.append("null");
+                } else if (isNonFinite(v)) {
+                    // JSON has no NaN or Infinity literals
+                    escape(sb, v.toString());
+                } else if ((v instanceof Number) || (v instanceof Boolean)) {
+                    sb.append(v);
+                } else {
+                    escape(sb, v.toString());
+                }
+            }
+            sb.append("}\n");
+            return sb.toString();
+        }
+
+        private static void escape(StringBuilder sb, String text) {
+            int len = text.length();
+            sb.append('"');
+            for (int i = 0; i < len; i++) {
+                char c = text.charAt(i);
+                switch(c) {
+                case '\b':
+                    sb.append("\\b");
+                    break;
+                case '\t':
+                    sb.append("\\t");
+                    break;
+                case '\r':
+                    sb.append("\\r");
+                    break;
+                case '\n':
+                    sb.append("\\n");
+                    break;
+                case '\f':
+                    sb.append("\\f");
+                    break;
+                case '"':
+                    sb.append("\\\"");
+                    break;
+                case '\\':
+                    sb.append("\\\\");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        sb.append("\\u00");
+                        sb.append(HEX[c >> 4]);
+                        sb.append(HEX[c & 0x0f]);
+                    } else {
+                        sb.append(c);
+                    }
+                    break;
+                }
+            }
+            sb.append('"');
+        }
+
+        private static boolean isNonFinite(Object v) {
+            if (v instanceof Double d) {
+                return !Double.isFinite(d);
+            } else if (v instanceof Float f) {
+                return !Float.isFinite(f);
+            }
+            return false;
+        }
+
+        public byte[] toBinary(long time, String name, Object[] nameValuePairs) {
+            bytes.reset();
+            try {
+                out.writeLong(time);
+                writeString(name);
+                int count = (nameValuePairs.length + 1) / 2;
+                out.writeInt(count);
+                for (int i = 0; i < nameValuePairs.length; ) {
+                    Object k = nameValuePairs[i++];
+                    Object v = (i < nameValuePairs.length) ? nameValuePairs[i++] : null;
+                    writeString(String.valueOf(k));
+                    if (v == null) {
+                        out.writeByte('N');
+                    } else if (v instanceof Boolean b) {
+                        out.writeByte('Z');
+                        out.writeBoolean(b);
+                    } else if ((v instanceof Integer) || (v instanceof Short) || (v instanceof Byte)) {
+                        out.writeByte('I');
+                        out.writeInt(((Number)v).intValue());
+                    } else if (v instanceof Long n) {
+                        out.writeByte('J');
+                        out.writeLong(n);
+                    } else if ((v instanceof Double) || (v instanceof Float)) {
+                        out.writeByte('D');
+                        out.writeDouble(((Number)v).doubleValue());
+                    } else {
+                        out.writeByte('S');
+                        writeString(v.toString());
+                    }
+                }
+            } catch (IOException e) {
+                // does not happen with ByteArrayOutputStream, but a log call must never throw
+                e.printStackTrace();
+                return null;
+            }
+            return bytes.toByteArray();
+        }
+
+        // unlike writeUTF(), has no 64K limit
+        private void writeString(String s) throws IOException {
+            byte[] b = s.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(b.length);
+            out.write(b);
         }
     }
 
-    private static String escape(String text) {
-        int len = text.length();
-        StringBuilder sb = new StringBuilder(len + 8);
-        sb.append('"');
-        for (int i = 0; i < len; i++) {
-            char c = text.charAt(i);
-            String s;
-            switch(c) {
-            case '\b':
-                s = "\\b";
-                break;
-            case '\t':
-                s = "\\t";
-                break;
-            case '\r':
-                s = "\\r";
-                break;
-            case '\n':
-                s = "\\n";
-                break;
-            case '\f':
-                s = "\\f";
-                break;
-            case '"':
-                s = "\\\"";
-                break;
-            default:
-                sb.append(c);
-                continue;
+    /**
+     * Encodes the events in the calling thread and hands them to a daemon thread
+     * via a lock-free queue.  The writer thread parks when there is nothing to write.
+     */
+    private static class AsyncSink implements Sink {
+        private final ConcurrentLinkedQueue<Object> queue = new ConcurrentLinkedQueue<>();
+        private final ThreadLocal<Encoder> encoders = ThreadLocal.withInitial(Encoder::new);
+        private final AtomicBoolean sleeping = new AtomicBoolean();
+        private final OutputStream out;
+        private final boolean binary;
+        private final Thread thread;
+
+        public AsyncSink(OutputStream out, boolean binary) {
+            this.out = new BufferedOutputStream(out, 65536);
+            this.binary = binary;
+
+            thread = new Thread(this::drain, "Loggers");
+            thread.setDaemon(true);
+            thread.start();
+
+            Runtime.getRuntime().addShutdownHook(new Thread(this::write));
+        }
+
+        @Override
+        public void log(long time, String name, Object[] nameValuePairs) {
+            Encoder en = encoders.get();
+            Object rec = binary ? en.toBinary(time, name, nameValuePairs) : en.toJson(time, name, nameValuePairs);
+            if (rec == null) {
+                return;
+            }
+            queue.add(rec);
+            if (sleeping.get()) {
+                LockSupport.unpark(thread);
             }
+        }
 
-            sb.append(s);
+        private void drain() {
+            for (;;) {
+                write();
+                sleeping.set(true);
+                if (queue.isEmpty()) {
+                    LockSupport.park(this);
+                }
+                sleeping.set(false);
+            }
+        }
+
+        private synchronized void write() {
+            try {
+                Object rec;
+                while ((rec = queue.poll()) != null) {
+                    if (rec instanceof byte[] b) {
+                        out.write(b);
+                    } else {
+                        out.write(rec.toString().getBytes(StandardCharsets.UTF_8));
+                    }
+                }
+                out.flush();
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
         }
-        sb.append('"');
-        return sb.toString();
     }
 
     public static class Logger {
@@ -116,8 +308,7 @@ public class Loggers {
 
         public void log(Object... nameValuePairs) {
             if (isEnabled) {
-                String json = toJson(System.currentTimeMillis(), name, nameValuePairs);
-                System.out.println(json);
+                sink().log(System.currentTimeMillis(), name, nameValuePairs);
             }
         }
     }
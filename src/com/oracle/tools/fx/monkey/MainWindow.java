@@ -67,11 +67,13 @@ import com.oracle.tools.fx.monkey.tools.JTextPanel;
 import com.oracle.tools.fx.monkey.tools.KeyboardEventViewer;
 import com.oracle.tools.fx.monkey.tools.ModalWindow;
 import com.oracle.tools.fx.monkey.tools.Native2AsciiPane;
+import com.oracle.tools.fx.monkey.tools.PageSwitchProfiler;
 import com.oracle.tools.fx.monkey.tools.StageTesterWindow;
 import com.oracle.tools.fx.monkey.tools.SystemInfoViewer;
 import com.oracle.tools.fx.monkey.util.FX;
 import com.oracle.tools.fx.monkey.util.Formats;
 import com.oracle.tools.fx.monkey.util.HasSkinnable;
+import com.oracle.tools.fx.monkey.util.PulseMonitor;
 import com.oracle.tools.fx.monkey.util.SingleInstance;
 import com.oracle.tools.fx.monkey.util.TestPaneBase;
 import com.oracle.tools.fx.monkey.util.Utils;
@@ -85,6 +87,8 @@ public class MainWindow extends Stage {
     private BorderPane contentPane;
     private DemoPage currentPage;
     private Label status;
+    private GridPane statusBar;
+    private PulseMonitor pulseMonitor;
     private EventHandler<InputMethodEvent> monitor;
 
     public MainWindow() {
@@ -99,8 +103,9 @@ public class MainWindow extends Stage {
 
         GridPane st = new GridPane();
         st.add(status, 0, 0);
-        st.add(spacer, 1, 0);
-        st.add(ver, 2, 0);
+        // column 1 is reserved for the pulse monitor
+        st.add(spacer, 2, 0);
+        st.add(ver, 3, 0);
         GridPane.setVgrow(status, Priority.ALWAYS);
         GridPane.setHgrow(spacer, Priority.ALWAYS);
         GridPane.setVgrow(ver, Priority.ALWAYS);
@@ -147,6 +152,7 @@ public class MainWindow extends Stage {
         bp.setTop(createMenu());
         bp.setCenter(split);
         bp.setBottom(st);
+        statusBar = st;
 
         Scene scene = new Scene(bp);
         scene.getStylesheets().add(stylesheet());
@@ -220,16 +226,21 @@ public class MainWindow extends Stage {
         FX.item(m, "JTextArea/JTextField in Pure Swing", this::openJTextAreaSwing);
         FX.item(m, "Keyboard Event Viewer", this::openKeyboardViewer);
         FX.item(m, "Native to ASCII", this::openNative2Ascii);
+        FX.item(m, "Page Switch Profiler", this::openPageSwitchProfiler);
         FX.item(m, "Platform Preferences Monitor", this::openPlatformPreferencesMonitor);
         FX.item(m, "Stage Tester", this::openStageTesterWindow);
         FX.item(m, "System Info", this::openSystemInfo);
         // Logs
         FX.menu(m, "Logging");
         FX.checkItem(m, "Accessibility", Loggers.accessibility.enabled);
+        FX.checkItem(m, "Data Generation", Loggers.data.enabled);
+        FX.checkItem(m, "Page Switching", Loggers.pages.enabled);
+        FX.checkItem(m, "Settings I/O", Loggers.settings.enabled);
         FX.item(m, imeMonitor);
         // Window
         m1 = FX.menu(m, "Window");
         FX.item(m, orientation);
+        FX.checkItem(m1, "Pulse Monitor", false, this::setPulseMonitor);
         m2 = FX.menu(m1, "Stylesheet");
         FX.item(m2, "modena.css", this::useModenaCSS);
         FX.item(m2, "caspian.css", this::useCaspianCSS);
@@ -242,15 +253,38 @@ public class MainWindow extends Stage {
         return m;
     }
 
+    private void setPulseMonitor(boolean on) {
+        if (on) {
+            if (pulseMonitor == null) {
+                pulseMonitor = new PulseMonitor(getScene());
+                statusBar.add(pulseMonitor, 1, 0);
+                pulseMonitor.start();
+            }
+        } else {
+            if (pulseMonitor != null) {
+                pulseMonitor.stop();
+                statusBar.getChildren().remove(pulseMonitor);
+                pulseMonitor = null;
+            }
+        }
+    }
+
     private void updatePage(DemoPage p) {
+        PageSwitchProfiler.Switch sw = PageSwitchProfiler.begin(p == null ? "<null>" : p.getTitle());
         FxSettings.store(contentPane);
+        sw.stored();
         if (contentPane.getCenter() instanceof TestPaneBase t) {
             t.deactivate();
         }
+        contentPane.setCenter(null);
+        sw.tornDown();
         currentPage = p;
-        contentPane.setCenter(p == null ? null : p.createPane());
+        Node n = (p == null) ? null : p.createPane();
+        sw.constructed(n);
+        contentPane.setCenter(n);
         updateTitle();
         FxSettings.restore(contentPane);
+        sw.restored(getScene());
     }
 
     private void reloadCurrentPage() {
@@ -323,6 +357,14 @@ public class MainWindow extends Stage {
         );
     }
 
+    private void openPageSwitchProfiler() {
+        SingleInstance.openSingleInstance(
+            "PageSwitchProfiler",
+            "Page Switch Profiler",
+            PageSwitchProfiler::new
+        );
+    }
+
     private void openCssPlayground() {
         SingleInstance.openSingleInstance(
             "CSSPlayground",
@@ -34,16 +34,42 @@ import com.oracle.tools.fx.monkey.settings.FxSettings;
  * Applications stores its user preferences (window location, etc.) in ~/.MonkeyTester directory.
  * To use a different directory, redefine the "user.home" system property, -Duser.home=<...>.
  * To disable saving, specify -Ddisable.settings=true vm agrument.
+ * To store the settings in an append-only journal, specify -Dsettings.format=journal vm argument.
+ * To store the settings in a compact binary file, specify -Dsettings.format=binary vm argument.
+ * To run the headless page benchmark, specify --benchmark=<FILE> argument (see {@link PageBenchmark}).
  */
 public class MonkeyTesterApp extends Application {
+    private static final String SETTINGS_DIR = ".MonkeyTester";
+
     public static void main(String[] args) {
+        if (PageBenchmark.isRequested(args)) {
+            PageBenchmark.prepare();
+        }
         Application.launch(MonkeyTesterApp.class, args);
     }
 
     @Override
     public void init() {
+        if (isBenchmark()) {
+            return;
+        }
+
         if (!Boolean.getBoolean("disable.settings")) {
-            FxSettings.useDirectory(".MonkeyTester");
+            switch (System.getProperty("settings.format", "")) {
+            case "journal":
+                FxSettings.useJournal(SETTINGS_DIR);
+                break;
+            case "binary":
+                FxSettings.useBinary(SETTINGS_DIR);
+                break;
+            default:
+                FxSettings.useDirectory(SETTINGS_DIR);
+                break;
+            }
+
+            FxSettings.setSaveMonitor((snapshot, write) -> {
+                Loggers.settings.log("snapshotMs", snapshot / 1_000_000.0, "writeMs", write / 1_000_000.0);
+            });
         }
     }
 
@@ -53,6 +79,16 @@ public class MonkeyTesterApp extends Application {
 
     @Override
     public void start(Stage stage) throws Exception {
+        if (isBenchmark()) {
+            String out = getParameters().getNamed().get(PageBenchmark.ARG);
+            new PageBenchmark(out).start();
+            return;
+        }
+
         new MainWindow().show();
     }
+
+    private boolean isBenchmark() {
+        return getParameters().getNamed().containsKey(PageBenchmark.ARG);
+    }
 }
@@ -0,0 +1,265 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package com.oracle.tools.fx.monkey;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Locale;
+import javafx.application.Platform;
+import javafx.scene.Scene;
+import javafx.scene.layout.Pane;
+import javafx.scene.layout.StackPane;
+import com.oracle.tools.fx.monkey.pages.DemoPage;
+import com.oracle.tools.fx.monkey.util.TestPaneBase;
+
+/**
+ * Headless page benchmark.
+ *
+ * Creates every page returned by {@link Pages#create()}, attaches it to an offscreen Scene,
+ * and measures the construction time, the first CSS + layout pass, the first pulse
+ * (an offscreen Scene receives no pulses, so a snapshot is taken instead, which performs
+ * the same CSS, layout, sync, and render steps), as well as the heap retained by the page.
+ *
+ * To run, specify the {@code --benchmark=<FILE>} command line argument.
+ * The report is written in JSON format when the file name ends with ".json", or CSV otherwise.
+ * A dash, {@code --benchmark=-}, prints the CSV report to stdout.
+ * The software pipeline is selected unless the "prism.order" system property is set.
+ */
+public class PageBenchmark {
+    public static final String ARG = "benchmark";
+    private static final double WIDTH = 1000;
+    private static final double HEIGHT = 700;
+    private final String output;
+    private final DemoPage[] pages;
+    private final ArrayList<Result> results = new ArrayList<>();
+    private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+    private int index;
+
+    public PageBenchmark(String output) {
+        this.output = output;
+        this.pages = Pages.create();
+    }
+
+    /** returns true if the command line arguments request the benchmark mode */
+    public static boolean isRequested(String[] args) {
+        for (String s: args) {
+            if (s.startsWith("--" + ARG + "=")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** must be called before the FX toolkit is started */
+    public static void prepare() {
+        if (System.getProperty("prism.order") == null) {
+            System.setProperty("prism.order", "sw");
+        }
+    }
+
+    /** starts the benchmark, must be called in the FX application thread */
+    public void start() {
+        Platform.setImplicitExit(false);
+        Platform.runLater(this::next);
+    }
+
+    private void next() {
+        if (index < pages.length) {
+            DemoPage p = pages[index++];
+            results.add(measure(p));
+            // let the pending runLater()s and animations settle before measuring the next page
+            Platform.runLater(this::next);
+        } else {
+            finish();
+        }
+    }
+
+    private Result measure(DemoPage page) {
+        Result r = new Result(page.getTitle());
+        long before = usedHeap();
+        try {
+            long t0 = System.nanoTime();
+            Pane p = page.createPane();
+            long t1 = System.nanoTime();
+
+            StackPane root = new StackPane(p);
+            Scene scene = new Scene(root, WIDTH, HEIGHT);
+            root.applyCss();
+            root.layout();
+            long t2 = System.nanoTime();
+
+            scene.snapshot(null);
+            long t3 = System.nanoTime();
+
+            r.construction = t1 - t0;
+            r.layout = t2 - t1;
+            r.pulse = t3 - t2;
+            r.retained = usedHeap() - before;
+
+            if (p instanceof TestPaneBase t) {
+                t.deactivate();
+            }
+            root.getChildren().clear();
+        } catch (Throwable e) {
+            r.error = e.toString();
+        }
+        return r;
+    }
+
+    private long usedHeap() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+
+    private void finish() {
+        try {
+            if ("-".equals(output)) {
+                writeCsv(new PrintStream(System.out, true, StandardCharsets.UTF_8));
+            } else {
+                try (Writer wr = Files.newBufferedWriter(Path.of(output), StandardCharsets.UTF_8)) {
+                    if (output.toLowerCase().endsWith(".json")) {
+                        writeJson(wr);
+                    } else {
+                        writeCsv(wr);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+        } finally {
+            Platform.exit();
+        }
+    }
+
+    private void writeCsv(Appendable wr) throws IOException {
+        wr.append("page,construction_ms,layout_ms,pulse_ms,retained_bytes,error\n");
+        for (Result r: results) {
+            wr.append(csv(r.title)).append(',');
+            wr.append(ms(r.construction)).append(',');
+            wr.append(ms(r.layout)).append(',');
+            wr.append(ms(r.pulse)).append(',');
+            wr.append(String.valueOf(r.retained)).append(',');
+            wr.append(r.error == null ? "" : csv(r.error));
+            wr.append('\n');
+        }
+    }
+
+    private void writeJson(Appendable wr) throws IOException {
+        wr.append("{\n");
+        wr.append("  \"fx\": ").append(json(System.getProperty("javafx.runtime.version"))).append(",\n");
+        wr.append("  \"jdk\": ").append(json(System.getProperty("java.version"))).append(",\n");
+        wr.append("  \"pages\": [\n");
+        for (int i = 0; i < results.size(); i++) {
+            Result r = results.get(i);
+            wr.append("    {");
+            wr.append("\"page\": ").append(json(r.title));
+            wr.append(", \"construction_ms\": ").append(ms(r.construction));
+            wr.append(", \"layout_ms\": ").append(ms(r.layout));
+            wr.append(", \"pulse_ms\": ").append(ms(r.pulse));
+            wr.append(", \"retained_bytes\": ").append(String.valueOf(r.retained));
+            if (r.error != null) {
+                wr.append(", \"error\": ").append(json(r.error));
+            }
+            wr.append("}");
+            if (i < results.size() - 1) {
+                wr.append(",");
+            }
+            wr.append("\n");
+        }
+        wr.append("  ]\n");
+        wr.append("}\n");
+    }
+
+    private static String ms(long nanos) {
+        return String.format(Locale.ROOT, "%.3f", nanos / 1_000_000.0);
+    }
+
+    private static String csv(String s) {
+        if ((s.indexOf(',') < 0) && (s.indexOf('"') < 0) && (s.indexOf('\n') < 0)) {
+            return s;
+        }
+        return "\"" + s.replace("\"", "\"\"") + "\"";
+    }
+
+    private static String json(String s) {
+        if (s == null) {
+            return "null";
+        }
+        StringBuilder sb = new StringBuilder(s.length() + 2);
+        sb.append('"');
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            switch (c) {
+            case '"':
+                sb.append("\\\"");
+                break;
+            case '\\':
+                sb.append("\\\\");
+                break;
+            case '\n':
+                sb.append("\\n");
+                break;
+            case '\r':
+                sb.append("\\r");
+                break;
+            case '\t':
+                sb.append("\\t");
+                break;
+            default:
+                if (c < 0x20) {
+                    sb.append(String.format("\\u%04x", (int)c));
+                } else {
+                    sb.append(c);
+                }
+                break;
+            }
+        }
+        sb.append('"');
+        return sb.toString();
+    }
+
+    /** Measurements for a single page */
+    private static class Result {
+        public final String title;
+        public long construction;
+        public long layout;
+        public long pulse;
+        public long retained;
+        public String error;
+
+        public Result(String title) {
+            this.title = title;
+        }
+    }
+}
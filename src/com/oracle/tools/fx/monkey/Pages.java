@@ -45,6 +45,7 @@ public class Pages {
             new DemoPage("ButtonBar", ButtonBarPage::new),
             // c
             new DemoPage("Canvas", true, CanvasPage::new),
+            new DemoPage("CanvasLineChart", CanvasLineChartPage::new),
             new DemoPage("CheckBox", CheckBoxPage::new),
             new DemoPage("ChoiceBox", ChoiceBoxPage::new),
             new DemoPage("Clipboard", ClipboardPage::new),
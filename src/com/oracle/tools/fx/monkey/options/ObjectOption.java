@@ -30,6 +30,8 @@ import java.util.function.Supplier;
 import javafx.beans.property.Property;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.scene.control.ComboBox;
+import com.oracle.tools.fx.monkey.settings.FxSettingsSchema;
+import com.oracle.tools.fx.monkey.util.BackgroundChoice;
 import com.oracle.tools.fx.monkey.util.FX;
 import com.oracle.tools.fx.monkey.util.NamedValue;
 import com.oracle.tools.fx.monkey.util.Utils;
@@ -39,15 +41,27 @@ import com.oracle.tools.fx.monkey.util.Utils;
  */
 public class ObjectOption<T> extends ComboBox<NamedValue<T>> {
     private final SimpleObjectProperty<T> property = new SimpleObjectProperty<>();
+    private final BackgroundChoice.Support<T> background;
 
     public ObjectOption(String name, Property<T> p) {
         FX.name(this, name);
         setMaxWidth(Double.MAX_VALUE);
         property.bindBidirectional(p);
+        background = new BackgroundChoice.Support<>(this);
+        // restoring the settings must not start a background generation
+        FxSettingsSchema.setRestoreFilter(this, (c) -> !(c instanceof BackgroundChoice));
 
         // TODO add the current value to choices and select it
 
         getSelectionModel().selectedItemProperty().addListener((s, pr, c) -> {
+            background.cancel();
+            if (c == null) {
+                return;
+            } else if (c instanceof BackgroundChoice<T> b) {
+                background.start(b, property::set);
+                return;
+            }
+
             T v = c.getValue();
             if (!Utils.eq(v, property.getValue())) {
                 property.set(v);
@@ -68,12 +82,20 @@ public class ObjectOption<T> extends ComboBox<NamedValue<T>> {
     }
 
     public void addChoiceSupplier(String name, Supplier<T> gen) {
-        getItems().add(new NamedValue<>(name, null) {
-            @Override
-            public T getValue() {
-                return gen.get();
-            }
-        });
+        getItems().add(new SupplierValue<>(name, gen));
+    }
+
+    /**
+     * Adds a choice whose value is generated in a background thread.
+     * Selecting another choice or pressing ESC cancels the generation.
+     */
+    public void addBackgroundChoice(String name, BackgroundChoice.Generator<T> gen) {
+        getItems().add(new BackgroundChoice<>(name, gen));
+    }
+
+    /** generated choices create a new value each time and cannot be matched against the property value */
+    private static boolean isGenerated(NamedValue<?> item) {
+        return (item instanceof SupplierValue) || (item instanceof BackgroundChoice);
     }
 
     /**
@@ -85,6 +107,9 @@ public class ObjectOption<T> extends ComboBox<NamedValue<T>> {
         int sz = items.size();
         for (int i = 0; i < sz; i++) {
             NamedValue<T> item = items.get(i);
+            if (isGenerated(item)) {
+                continue;
+            }
             if (Objects.equals(value, item.getValue())) {
                 select(i);
                 return;
@@ -104,6 +129,9 @@ public class ObjectOption<T> extends ComboBox<NamedValue<T>> {
         int sz = items.size();
         for (int i = 0; i < sz; i++) {
             NamedValue<T> item = items.get(i);
+            if (isGenerated(item)) {
+                continue;
+            }
             if (Objects.equals(value, item.getValue())) {
                 select(i);
                 return;
@@ -124,4 +152,18 @@ public class ObjectOption<T> extends ComboBox<NamedValue<T>> {
     public void selectFirst() {
         select(0);
     }
+
+    private static class SupplierValue<T> extends NamedValue<T> {
+        private final Supplier<T> gen;
+
+        public SupplierValue(String name, Supplier<T> gen) {
+            super(name, null);
+            this.gen = gen;
+        }
+
+        @Override
+        public T getValue() {
+            return gen.get();
+        }
+    }
 }
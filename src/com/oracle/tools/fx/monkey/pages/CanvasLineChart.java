@@ -0,0 +1,563 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package com.oracle.tools.fx.monkey.pages;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import javafx.beans.InvalidationListener;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.chart.NumberAxis;
+import javafx.scene.chart.XYChart;
+import javafx.scene.paint.Color;
+import com.oracle.tools.fx.monkey.util.Downsampling;
+
+/**
+ * Line chart which draws its series directly on a Canvas instead of creating a Node per point.
+ * <p>
+ * The regular XYChart series are mirrored into primitive arrays, and additional "direct" traces
+ * can be appended to without creating any XYChart.Data objects.
+ * The chart redraws incrementally: appended points are drawn on top of the existing image,
+ * a changed point redraws only the vertical strip around it, and everything else
+ * (resizing, axis range changes, removals) redraws the whole canvas.
+ * When the points are appended beyond the auto range, the range grows with 50% headroom,
+ * so that the axis bounds (and the full redraws) change only occasionally.
+ */
+public class CanvasLineChart extends XYChart<Number, Number> {
+    /** Series data in primitive arrays. */
+    public static class Trace {
+        private final String name;
+        private double[] xs = new double[64];
+        private double[] ys = new double[64];
+        private int size;
+        private int drawn;
+        private boolean sorted = true;
+        private double minX;
+        private double maxX;
+        private double minY;
+        private double maxY;
+
+        public Trace(String name) {
+            this.name = name;
+            clear();
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        private void clear() {
+            size = 0;
+            drawn = 0;
+            sorted = true;
+            minX = Double.POSITIVE_INFINITY;
+            maxX = Double.NEGATIVE_INFINITY;
+            minY = Double.POSITIVE_INFINITY;
+            maxY = Double.NEGATIVE_INFINITY;
+        }
+
+        /** returns true if the range has changed */
+        private boolean add(double x, double y) {
+            if (size == xs.length) {
+                xs = Arrays.copyOf(xs, size * 2);
+                ys = Arrays.copyOf(ys, size * 2);
+            }
+            if ((size > 0) && (x < xs[size - 1])) {
+                sorted = false;
+            }
+            xs[size] = x;
+            ys[size] = y;
+            size++;
+
+            boolean rv = false;
+            if (x < minX) {
+                minX = x;
+                rv = true;
+            }
+            if (x > maxX) {
+                maxX = x;
+                rv = true;
+            }
+            if (y < minY) {
+                minY = y;
+                rv = true;
+            }
+            if (y > maxY) {
+                maxY = y;
+                rv = true;
+            }
+            return rv;
+        }
+    }
+
+    private enum Redraw {
+        NONE,
+        APPEND,
+        STRIP,
+        FULL
+    }
+
+    private static final Color[] COLORS = {
+        Color.web("#f3622d"),
+        Color.web("#fba71b"),
+        Color.web("#57b757"),
+        Color.web("#41a9c9"),
+        Color.web("#4258c9"),
+        Color.web("#9a42c8"),
+        Color.web("#c84164"),
+        Color.web("#888888")
+    };
+    /** the number of segments stroked as one path */
+    private static final int CHUNK = 8192;
+    /** the fraction of the data span added to the auto range when the data grows out of it */
+    private static final double HEADROOM = 0.5;
+    private final NumberAxis xAxis;
+    private final NumberAxis yAxis;
+    private final Canvas canvas = new Canvas();
+    private final HashMap<Series<Number, Number>, Trace> mirrors = new HashMap<>();
+    private final ArrayList<Trace> direct = new ArrayList<>();
+    private final ArrayList<Trace> stale = new ArrayList<>();
+    private Redraw redraw = Redraw.FULL;
+    private double stripMin;
+    private double stripMax;
+    private boolean rangeChanged;
+    // the data range passed to the auto ranging axes, includes the headroom
+    private double rangeMinX;
+    private double rangeMaxX;
+    private double rangeMinY;
+    private double rangeMaxY;
+    // the range is fitted to the data when points get removed or replaced
+    private boolean resetRange = true;
+    // drawing parameters
+    private double x0;
+    private double y0;
+    private double sx;
+    private double sy;
+    private double height;
+    // statistics
+    private int fullCount;
+    private int appendCount;
+    private int stripCount;
+    private long drawTime;
+    private long maxDrawTime;
+
+    public CanvasLineChart(NumberAxis xAxis, NumberAxis yAxis) {
+        super(xAxis, yAxis);
+        this.xAxis = xAxis;
+        this.yAxis = yAxis;
+        canvas.setManaged(false);
+        getPlotChildren().add(canvas);
+
+        InvalidationListener li = (x) -> requestRedraw(Redraw.FULL);
+        xAxis.lowerBoundProperty().addListener(li);
+        xAxis.upperBoundProperty().addListener(li);
+        yAxis.lowerBoundProperty().addListener(li);
+        yAxis.upperBoundProperty().addListener(li);
+    }
+
+    /** adds a trace which is not backed by XYChart.Data objects */
+    public Trace addTrace(String name) {
+        Trace t = new Trace(name);
+        direct.add(t);
+        requestRedraw(Redraw.FULL);
+        return t;
+    }
+
+    public void removeTraces() {
+        direct.clear();
+        rangeChanged = true;
+        resetRange = true;
+        requestRedraw(Redraw.FULL);
+    }
+
+    /** appends the points to the trace, drawing them incrementally */
+    public void append(Trace t, double[] xs, double[] ys, int count) {
+        for (int i = 0; i < count; i++) {
+            if (t.add(xs[i], ys[i])) {
+                rangeChanged = true;
+            }
+        }
+        requestRedraw(Redraw.APPEND);
+    }
+
+    public List<Trace> getTraces() {
+        return direct;
+    }
+
+    /** returns the drawing statistics since the last call */
+    public String takeStatistics() {
+        int count = fullCount + appendCount + stripCount;
+        double avg = (count == 0) ? 0.0 : (drawTime / 1_000_000.0 / count);
+        String s = String.format(
+            "draws: %d full, %d append, %d strip; avg %.2f ms, max %.2f ms",
+            fullCount,
+            appendCount,
+            stripCount,
+            avg,
+            maxDrawTime / 1_000_000.0);
+        fullCount = 0;
+        appendCount = 0;
+        stripCount = 0;
+        drawTime = 0;
+        maxDrawTime = 0;
+        return s;
+    }
+
+    private void requestRedraw(Redraw r) {
+        if (r.ordinal() > redraw.ordinal()) {
+            redraw = r;
+        }
+        requestChartLayout();
+    }
+
+    @Override
+    protected void dataItemAdded(Series<Number, Number> series, int itemIndex, Data<Number, Number> item) {
+        Trace t = mirrors.get(series);
+        if (t == null) {
+            return;
+        }
+
+        if (!stale.contains(t) && (itemIndex == t.size)) {
+            if (t.add(value(item.getXValue()), value(item.getYValue()))) {
+                rangeChanged = true;
+            }
+            requestRedraw(Redraw.APPEND);
+        } else {
+            markStale(t);
+        }
+    }
+
+    @Override
+    protected void dataItemRemoved(Data<Number, Number> item, Series<Number, Number> series) {
+        removeDataItemFromDisplay(series, item);
+        Trace t = mirrors.get(series);
+        if (t != null) {
+            markStale(t);
+        }
+    }
+
+    @Override
+    protected void dataItemChanged(Data<Number, Number> item) {
+        for (Series<Number, Number> s: getData()) {
+            Trace t = mirrors.get(s);
+            if ((t == null) || stale.contains(t)) {
+                continue;
+            }
+
+            int ix = s.getData().indexOf(item);
+            if (ix < 0) {
+                continue;
+            }
+
+            double x = value(item.getXValue());
+            double y = value(item.getYValue());
+            double oldX = t.xs[ix];
+            boolean order =
+                ((ix == 0) || (t.xs[ix - 1] <= x)) &&
+                ((ix == t.size - 1) || (x <= t.xs[ix + 1]));
+            if (!t.sorted || !order || (y < t.minY) || (y > t.maxY) || (x < t.minX) || (x > t.maxX)) {
+                markStale(t);
+                return;
+            }
+
+            t.xs[ix] = x;
+            t.ys[ix] = y;
+
+            // the strip covers the segments adjacent to both the old and the new position
+            double min = (ix > 0) ? t.xs[ix - 1] : Math.min(x, oldX);
+            double max = (ix < t.size - 1) ? t.xs[ix + 1] : Math.max(x, oldX);
+            if (redraw == Redraw.STRIP) {
+                stripMin = Math.min(stripMin, min);
+                stripMax = Math.max(stripMax, max);
+            } else {
+                stripMin = min;
+                stripMax = max;
+            }
+            requestRedraw(Redraw.STRIP);
+            return;
+        }
+    }
+
+    @Override
+    protected void seriesAdded(Series<Number, Number> series, int seriesIndex) {
+        Trace t = new Trace(series.getName());
+        mirrors.put(series, t);
+        markStale(t);
+    }
+
+    @Override
+    protected void seriesRemoved(Series<Number, Number> series) {
+        Trace t = mirrors.remove(series);
+        stale.remove(t);
+        removeSeriesFromDisplay(series);
+        rangeChanged = true;
+        resetRange = true;
+        requestRedraw(Redraw.FULL);
+    }
+
+    private void markStale(Trace t) {
+        if (!stale.contains(t)) {
+            stale.add(t);
+        }
+        rangeChanged = true;
+        resetRange = true;
+        requestRedraw(Redraw.FULL);
+    }
+
+    private void rebuildStale() {
+        if (stale.isEmpty()) {
+            return;
+        }
+
+        for (Series<Number, Number> s: getData()) {
+            Trace t = mirrors.get(s);
+            if (stale.contains(t)) {
+                t.clear();
+                for (Data<Number, Number> d: s.getData()) {
+                    t.add(value(d.getXValue()), value(d.getYValue()));
+                }
+            }
+        }
+        stale.clear();
+    }
+
+    private static double value(Number n) {
+        return (n == null) ? Double.NaN : n.doubleValue();
+    }
+
+    private List<Trace> allTraces() {
+        ArrayList<Trace> rv = new ArrayList<>();
+        for (Series<Number, Number> s: getData()) {
+            Trace t = mirrors.get(s);
+            if (t != null) {
+                rv.add(t);
+            }
+        }
+        rv.addAll(direct);
+        return rv;
+    }
+
+    @Override
+    protected void updateAxisRange() {
+        rebuildStale();
+        updateRanges(true);
+    }
+
+    private void updateRanges(boolean force) {
+        rangeChanged = false;
+        double minX = Double.POSITIVE_INFINITY;
+        double maxX = Double.NEGATIVE_INFINITY;
+        double minY = Double.POSITIVE_INFINITY;
+        double maxY = Double.NEGATIVE_INFINITY;
+        for (Trace t: allTraces()) {
+            minX = Math.min(minX, t.minX);
+            maxX = Math.max(maxX, t.maxX);
+            minY = Math.min(minY, t.minY);
+            maxY = Math.max(maxY, t.maxY);
+        }
+
+        boolean changed;
+        if (resetRange || !(minX <= maxX) || !(minY <= maxY)) {
+            resetRange = false;
+            changed = true;
+            rangeMinX = minX;
+            rangeMaxX = maxX;
+            rangeMinY = minY;
+            rangeMaxY = maxY;
+        } else {
+            changed = false;
+            if ((minX < rangeMinX) || (maxX > rangeMaxX)) {
+                double pad = (Math.max(maxX, rangeMaxX) - Math.min(minX, rangeMinX)) * HEADROOM;
+                rangeMinX = (minX < rangeMinX) ? minX - pad : rangeMinX;
+                rangeMaxX = (maxX > rangeMaxX) ? maxX + pad : rangeMaxX;
+                changed = true;
+            }
+            if ((minY < rangeMinY) || (maxY > rangeMaxY)) {
+                double pad = (Math.max(maxY, rangeMaxY) - Math.min(minY, rangeMinY)) * HEADROOM;
+                rangeMinY = (minY < rangeMinY) ? minY - pad : rangeMinY;
+                rangeMaxY = (maxY > rangeMaxY) ? maxY + pad : rangeMaxY;
+                changed = true;
+            }
+        }
+
+        if (changed || force) {
+            if (xAxis.isAutoRanging()) {
+                xAxis.invalidateRange((rangeMinX <= rangeMaxX) ? List.of(rangeMinX, rangeMaxX) : List.of());
+            }
+            if (yAxis.isAutoRanging()) {
+                yAxis.invalidateRange((rangeMinY <= rangeMaxY) ? List.of(rangeMinY, rangeMaxY) : List.of());
+            }
+        }
+    }
+
+    @Override
+    protected void layoutPlotChildren() {
+        rebuildStale();
+        if (rangeChanged) {
+            // the axes pick up the new range in the next layout, which triggers a full redraw,
+            // unless the new points fit into the headroom
+            updateRanges(false);
+        }
+
+        double w = Math.max(1.0, Math.floor(xAxis.getWidth()));
+        double h = Math.max(1.0, Math.floor(yAxis.getHeight()));
+        if ((w != canvas.getWidth()) || (h != canvas.getHeight())) {
+            canvas.setWidth(w);
+            canvas.setHeight(h);
+            redraw = Redraw.FULL;
+        }
+
+        if (redraw == Redraw.NONE) {
+            return;
+        }
+
+        double lower = xAxis.getLowerBound();
+        double upper = xAxis.getUpperBound();
+        double ylower = yAxis.getLowerBound();
+        double yupper = yAxis.getUpperBound();
+        x0 = lower;
+        y0 = ylower;
+        sx = (upper > lower) ? w / (upper - lower) : 1.0;
+        sy = (yupper > ylower) ? h / (yupper - ylower) : 1.0;
+        height = h;
+
+        long start = System.nanoTime();
+        GraphicsContext g = canvas.getGraphicsContext2D();
+        g.setLineWidth(1.5);
+        List<Trace> traces = allTraces();
+
+        switch (redraw) {
+        case APPEND:
+            for (int i = 0; i < traces.size(); i++) {
+                Trace t = traces.get(i);
+                if (t.drawn < t.size) {
+                    draw(g, t, i, Math.max(0, t.drawn - 1), t.size);
+                    t.drawn = t.size;
+                }
+            }
+            appendCount++;
+            break;
+        case STRIP:
+            boolean sorted = traces.stream().allMatch((t) -> t.sorted);
+            if (sorted) {
+                double px0 = Math.floor(px(stripMin)) - 2.0;
+                double px1 = Math.ceil(px(stripMax)) + 2.0;
+                g.save();
+                g.clearRect(px0, 0, px1 - px0, h);
+                g.beginPath();
+                g.rect(px0, 0, px1 - px0, h);
+                g.clip();
+                for (int i = 0; i < traces.size(); i++) {
+                    Trace t = traces.get(i);
+                    int from = Math.max(0, Downsampling.lowerBound(t.xs, t.size, stripMin) - 1);
+                    int to = Math.min(t.size, Downsampling.lowerBound(t.xs, t.size, stripMax) + 2);
+                    draw(g, t, i, from, to);
+                }
+                g.restore();
+                stripCount++;
+                break;
+            }
+            // fall through
+        default:
+            g.clearRect(0, 0, w, h);
+            for (int i = 0; i < traces.size(); i++) {
+                Trace t = traces.get(i);
+                int from = 0;
+                int to = t.size;
+                if (t.sorted) {
+                    // only the visible part, plus one point on each side
+                    from = Math.max(0, Downsampling.lowerBound(t.xs, t.size, lower) - 1);
+                    to = Math.min(t.size, Downsampling.lowerBound(t.xs, t.size, upper) + 1);
+                }
+                draw(g, t, i, from, to);
+                t.drawn = t.size;
+            }
+            fullCount++;
+            break;
+        }
+
+        redraw = Redraw.NONE;
+        long elapsed = System.nanoTime() - start;
+        drawTime += elapsed;
+        maxDrawTime = Math.max(maxDrawTime, elapsed);
+    }
+
+    private double px(double x) {
+        return (x - x0) * sx;
+    }
+
+    private double py(double y) {
+        return height - (y - y0) * sy;
+    }
+
+    /** draws the polyline through the points [from, to), skipping the points that map to the same pixel */
+    private void draw(GraphicsContext g, Trace t, int index, int from, int to) {
+        if (to - from < 2) {
+            return;
+        }
+
+        g.setStroke(COLORS[index % COLORS.length]);
+        double[] xs = t.xs;
+        double[] ys = t.ys;
+        int segments = 0;
+        boolean open = false;
+        double lastX = Double.NaN;
+        double lastY = Double.NaN;
+
+        g.beginPath();
+        for (int i = from; i < to; i++) {
+            double x = px(xs[i]);
+            double y = py(ys[i]);
+            if (Double.isNaN(x) || Double.isNaN(y)) {
+                open = false;
+                continue;
+            }
+
+            if (!open) {
+                g.moveTo(x, y);
+                open = true;
+            } else if (((int)x != (int)lastX) || ((int)y != (int)lastY)) {
+                g.lineTo(x, y);
+                if (++segments == CHUNK) {
+                    g.stroke();
+                    g.beginPath();
+                    g.moveTo(x, y);
+                    segments = 0;
+                }
+            } else {
+                continue;
+            }
+            lastX = x;
+            lastY = y;
+        }
+        g.stroke();
+    }
+}
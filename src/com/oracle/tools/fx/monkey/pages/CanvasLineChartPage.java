@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package com.oracle.tools.fx.monkey.pages;
+
+import javafx.animation.AnimationTimer;
+import javafx.animation.KeyFrame;
+import javafx.animation.Timeline;
+import javafx.beans.property.SimpleIntegerProperty;
+import javafx.scene.AccessibleAttribute;
+import javafx.scene.chart.NumberAxis;
+import javafx.scene.chart.XYChart;
+import javafx.scene.control.Label;
+import javafx.util.Duration;
+import com.oracle.tools.fx.monkey.Loggers;
+import com.oracle.tools.fx.monkey.options.BooleanOption;
+import com.oracle.tools.fx.monkey.options.IntOption;
+import com.oracle.tools.fx.monkey.sheets.XYChartPropertySheet;
+import com.oracle.tools.fx.monkey.util.DataGenerator;
+import com.oracle.tools.fx.monkey.util.ObjectSelector;
+import com.oracle.tools.fx.monkey.util.OptionPane;
+
+/**
+ * Canvas Line Chart Page.
+ * <p>
+ * Renders the same data as the LineChart page (the Large Series option uses identical seeded data)
+ * on a single Canvas, for comparison.
+ */
+public class CanvasLineChartPage extends XYChartPageBase {
+    private final CanvasLineChart chart;
+    private final SimpleIntegerProperty appendRate = new SimpleIntegerProperty(1000);
+    private final Label stats = new Label();
+    private final Timeline statsUpdater;
+    private final DataGenerator appendGenerator = DataGenerator.create("CanvasLineChartPage.append");
+    private AnimationTimer appender;
+    private CanvasLineChart.Trace appendTrace;
+    private double appendY;
+    private int frames;
+    private long lastUpdate;
+
+    public CanvasLineChartPage() {
+        super("CanvasLineChartPage");
+
+        NumberAxis xAxis = createNumberAxis("X Axis");
+        NumberAxis yAxis = createNumberAxis("Y Axis");
+
+        chart = new CanvasLineChart(xAxis, yAxis) {
+            @Override
+            public Object queryAccessibleAttribute(AccessibleAttribute a, Object... ps) {
+                Object v = super.queryAccessibleAttribute(a, ps);
+                Loggers.accessibility.log(a, v);
+                return v;
+            }
+
+            @Override
+            protected void layoutPlotChildren() {
+                super.layoutPlotChildren();
+                frames++;
+            }
+        };
+        chart.setTitle("Canvas Line Chart");
+        addSeries();
+
+        ObjectSelector<Integer> direct = new ObjectSelector<>("directData", this::loadDirect);
+        direct.addChoice("<none>", 0);
+        direct.addChoice("100,000 Points", 100_000);
+        direct.addChoice("1,000,000 Points", 1_000_000);
+        direct.addChoice("10,000,000 Points", 10_000_000);
+        direct.selectFirst();
+
+        statsUpdater = new Timeline(new KeyFrame(Duration.seconds(1), (ev) -> updateStats()));
+        statsUpdater.setCycleCount(Timeline.INDEFINITE);
+        statsUpdater.play();
+
+        OptionPane op = new OptionPane();
+        op.section("CanvasLineChart");
+        op.option("Direct Data:", direct);
+        op.option(new BooleanOption("appending", "append points every frame", this::setAppending));
+        op.option("Points/frame:", new IntOption("appendRate", 1, 1_000_000, appendRate));
+        op.option(stats);
+        numberAxisOptions("X Axis", "x", op, xAxis);
+        numberAxisOptions("Y Axis", "y", op, yAxis);
+        XYChartPropertySheet.appendTo(this, op, chart);
+
+        setContent(chart);
+        setOptions(op);
+    }
+
+    @Override
+    public XYChart<?, Number> chart() {
+        return chart;
+    }
+
+    @Override
+    public void deactivate() {
+        super.deactivate();
+        setAppending(false);
+        statsUpdater.stop();
+    }
+
+    private void loadDirect(int count) {
+        chart.removeTraces();
+        appendTrace = null;
+        if (count > 0) {
+            double[][] walk = XYChartDownsampler.randomWalk(count);
+            CanvasLineChart.Trace t = chart.addTrace("Direct");
+            chart.append(t, walk[0], walk[1], count);
+        }
+    }
+
+    private void setAppending(boolean on) {
+        if (on) {
+            if (appender == null) {
+                appender = new AnimationTimer() {
+                    @Override
+                    public void handle(long now) {
+                        appendPoints();
+                    }
+                };
+                appender.start();
+            }
+        } else {
+            if (appender != null) {
+                appender.stop();
+                appender = null;
+            }
+        }
+    }
+
+    private void appendPoints() {
+        if (appendTrace == null) {
+            appendTrace = chart.addTrace("Appended");
+            appendY = 0.0;
+        }
+
+        int n = appendRate.get();
+        double[] xs = new double[n];
+        double[] ys = new double[n];
+        int start = appendTrace.size();
+        for (int i = 0; i < n; i++) {
+            appendY += appendGenerator.nextDouble() - 0.5;
+            xs[i] = start + i;
+            ys[i] = appendY;
+        }
+        chart.append(appendTrace, xs, ys, n);
+    }
+
+    private void updateStats() {
+        long t = System.nanoTime();
+        double sec = (lastUpdate == 0) ? 1.0 : (t - lastUpdate) / 1_000_000_000.0;
+        lastUpdate = t;
+
+        long points = 0;
+        for (CanvasLineChart.Trace tr: chart.getTraces()) {
+            points += tr.size();
+        }
+        stats.setText(String.format("%.1f layouts/s, %,d direct points\n%s", frames / sec, points, chart.takeStatistics()));
+        frames = 0;
+    }
+}
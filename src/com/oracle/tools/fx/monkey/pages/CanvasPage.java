@@ -25,52 +25,54 @@
 package com.oracle.tools.fx.monkey.pages;
 
 import java.text.SimpleDateFormat;
+import javafx.animation.AnimationTimer;
 import javafx.beans.value.ChangeListener;
 import javafx.scene.Node;
 import javafx.scene.canvas.Canvas;
 import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.control.ContextMenu;
+import javafx.scene.control.Label;
 import javafx.scene.input.PickResult;
 import javafx.scene.layout.Pane;
 import javafx.scene.paint.Color;
 import javafx.scene.text.Font;
 import javafx.stage.Window;
+import com.oracle.tools.fx.monkey.options.BooleanOption;
+import com.oracle.tools.fx.monkey.options.IntOption;
 import com.oracle.tools.fx.monkey.sheets.PropertiesMonitor;
 import com.oracle.tools.fx.monkey.tools.AccessibilityPropertyViewer;
 import com.oracle.tools.fx.monkey.util.FX;
+import com.oracle.tools.fx.monkey.util.FrameTimes;
+import com.oracle.tools.fx.monkey.util.OptionPane;
 import com.oracle.tools.fx.monkey.util.TestPaneBase;
 
 /**
  * Canvas Page.
  */
 public class CanvasPage extends TestPaneBase {
-    private Pane pane;
+    private final Pane pane;
+    private final Canvas canvas;
+    private final Label overlay;
+    private final BooleanOption animate;
+    private final CanvasWorkload workload = new CanvasWorkload();
+    private final FrameTimes frameTimes = new FrameTimes(1000);
+    private final FrameTimes drawTimes = new FrameTimes(1000);
+    private AnimationTimer timer;
+    private long frame;
+    private long lastPulse;
+    private long lastReport;
+    private int commands;
 
-    // TODO context menu to draw stuff?
     public CanvasPage() {
         super("CanvasPage");
 
-        pane = new Pane();
-        setContent(pane);
-
-        pane.widthProperty().addListener((x) -> updateCanvas());
-        pane.heightProperty().addListener((x) -> updateCanvas());
-
-        updateCanvas();
-    }
-
-    protected void updateCanvas() {
-        double w = pane.getWidth();
-        double h = pane.getHeight();
-        String text = "width=" + w + " height=" + h;
-        Font f = Font.font("System", 14);
-
         ChangeListener<Number> li = (s,p,c) -> {
             String t = new SimpleDateFormat("yyyy/MM/dd HH:mm:ss").format(System.currentTimeMillis());
             System.out.println(String.format("%s scalex=%f", t, c));
         };
 
-        Canvas canvas = new Canvas(w, h);
+        // the canvas is reused, only its size changes when the pane is resized
+        canvas = new Canvas();
         canvas.sceneProperty().addListener((s, p, v) -> {
             if (p != null) {
                 Window win = p.getWindow();
@@ -87,7 +89,57 @@ public class CanvasPage extends TestPaneBase {
         });
         FX.setPopupMenu(canvas, this::createMenu);
 
+        overlay = new Label();
+        overlay.setManaged(false);
+        overlay.setMouseTransparent(true);
+        overlay.setVisible(false);
+        overlay.setStyle("-fx-background-color:rgba(255,255,255,0.8); -fx-padding:2 4 2 4;");
+
+        pane = new Pane(canvas, overlay);
+        setContent(pane);
+
+        pane.widthProperty().addListener((x) -> updateCanvas());
+        pane.heightProperty().addListener((x) -> updateCanvas());
+
+        animate = new BooleanOption("animate", "animate", this::setAnimating);
+
+        OptionPane op = new OptionPane();
+        op.section("Workload");
+        op.option(animate);
+        op.option("Rectangles:", new IntOption("rectangles", 0, 1_000_000, workload.rectangles));
+        op.option("Paths:", new IntOption("paths", 0, 100_000, workload.paths));
+        op.option("Text Runs:", new IntOption("texts", 0, 100_000, workload.texts));
+        op.option("Images:", new IntOption("images", 0, 100_000, workload.images));
+
+        setOptions(op);
+
+        updateCanvas();
+    }
+
+    @Override
+    public void deactivate() {
+        setAnimating(false);
+    }
+
+    protected void updateCanvas() {
+        double w = pane.getWidth();
+        double h = pane.getHeight();
+        canvas.setWidth(w);
+        canvas.setHeight(h);
+
+        if (timer == null) {
+            drawStatic();
+        }
+    }
+
+    private void drawStatic() {
+        double w = canvas.getWidth();
+        double h = canvas.getHeight();
+        String text = "width=" + w + " height=" + h;
+        Font f = Font.font("System", 14);
+
         GraphicsContext g = canvas.getGraphicsContext2D();
+        g.clearRect(0, 0, w, h);
 
         g.setFont(f);
         g.setFill(Color.BLACK);
@@ -99,13 +151,65 @@ public class CanvasPage extends TestPaneBase {
         g.moveTo(0, h / 2);
         g.lineTo(w, h / 2);
         g.stroke();
+    }
 
-        pane.getChildren().setAll(canvas);
+    private void setAnimating(boolean on) {
+        if (on) {
+            if (timer == null) {
+                frameTimes.clear();
+                drawTimes.clear();
+                lastPulse = 0;
+                lastReport = 0;
+                timer = new AnimationTimer() {
+                    @Override
+                    public void handle(long now) {
+                        drawFrame(now);
+                    }
+                };
+                timer.start();
+                overlay.setVisible(true);
+            }
+        } else {
+            if (timer != null) {
+                timer.stop();
+                timer = null;
+                overlay.setVisible(false);
+                drawStatic();
+            }
+        }
+        if (animate.isSelected() != on) {
+            animate.setSelected(on);
+        }
+    }
+
+    private void drawFrame(long now) {
+        if (lastPulse != 0) {
+            frameTimes.add(now - lastPulse);
+        }
+        lastPulse = now;
+
+        long start = System.nanoTime();
+        commands = workload.draw(canvas.getGraphicsContext2D(), canvas.getWidth(), canvas.getHeight(), frame++);
+        drawTimes.add(System.nanoTime() - start);
+
+        if (now - lastReport > 500_000_000L) {
+            lastReport = now;
+            overlay.setText(
+                "frame: " + frameTimes.summary() + "\n" +
+                "draw: " + drawTimes.summary() + "\n" +
+                "commands/frame: " + commands);
+            overlay.relocate(4, 20);
+            overlay.autosize();
+        }
     }
 
     private ContextMenu createMenu(PickResult pick) {
         Node source = pick.getIntersectedNode();
         ContextMenu m = new ContextMenu();
+        FX.item(m, (timer == null) ? "Start Animation" : "Stop Animation", () -> {
+            setAnimating(timer == null);
+        });
+        FX.separator(m);
         FX.item(m, "Accessibility Attributes...", () -> {
             AccessibilityPropertyViewer.open(pick);
         });
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package com.oracle.tools.fx.monkey.pages;
+
+import javafx.beans.property.SimpleIntegerProperty;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelWriter;
+import javafx.scene.image.WritableImage;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+
+/**
+ * Configurable Canvas drawing workload: the specified number of rectangles, paths, text runs,
+ * and images drawn per frame, moving with the frame number.
+ */
+public class CanvasWorkload {
+    public final SimpleIntegerProperty rectangles = new SimpleIntegerProperty(1000);
+    public final SimpleIntegerProperty paths = new SimpleIntegerProperty(100);
+    public final SimpleIntegerProperty texts = new SimpleIntegerProperty(100);
+    public final SimpleIntegerProperty images = new SimpleIntegerProperty(10);
+    private static final int PATH_POINTS = 16;
+    private static final int IMAGE_SIZE = 64;
+    private final Color[] colors = new Color[64];
+    private final Font font = Font.font("System", 14);
+    private Image image;
+
+    public CanvasWorkload() {
+        for (int i = 0; i < colors.length; i++) {
+            colors[i] = Color.hsb(i * 360.0 / colors.length, 0.8, 0.9, 0.7);
+        }
+    }
+
+    private Image image() {
+        if (image == null) {
+            WritableImage im = new WritableImage(IMAGE_SIZE, IMAGE_SIZE);
+            PixelWriter wr = im.getPixelWriter();
+            for (int y = 0; y < IMAGE_SIZE; y++) {
+                for (int x = 0; x < IMAGE_SIZE; x++) {
+                    boolean on = ((x / 8) + (y / 8)) % 2 == 0;
+                    wr.setColor(x, y, on ? Color.hsb(x * 360.0 / IMAGE_SIZE, 0.6, 1.0) : Color.WHITE);
+                }
+            }
+            image = im;
+        }
+        return image;
+    }
+
+    /** returns a pseudo-random position in 0..1 for the item, moving with the frame */
+    private static double pos(int item, int axis, long frame) {
+        double phase = (item * 0.618034 + axis * 0.414214) % 1.0;
+        double speed = 0.002 + ((item * 7 + axis * 13) % 17) * 0.0004;
+        double v = (phase + frame * speed) % 2.0;
+        return (v > 1.0) ? 2.0 - v : v;
+    }
+
+    /**
+     * Draws one frame.
+     * @return the number of GraphicsContext commands issued
+     */
+    public int draw(GraphicsContext g, double width, double height, long frame) {
+        int cmds = 0;
+        g.clearRect(0, 0, width, height);
+        cmds++;
+
+        int n = rectangles.get();
+        for (int i = 0; i < n; i++) {
+            double x = pos(i, 0, frame) * width;
+            double y = pos(i, 1, frame) * height;
+            double sz = 4 + (i % 29);
+            g.setFill(colors[i % colors.length]);
+            g.fillRect(x - sz / 2, y - sz / 2, sz, sz);
+            cmds += 2;
+        }
+
+        n = paths.get();
+        g.setLineWidth(1.0);
+        for (int i = 0; i < n; i++) {
+            g.setStroke(colors[(i * 5) % colors.length]);
+            g.beginPath();
+            for (int j = 0; j < PATH_POINTS; j++) {
+                double x = pos(i * PATH_POINTS + j, 2, frame) * width;
+                double y = pos(i * PATH_POINTS + j, 3, frame) * height;
+                if (j == 0) {
+                    g.moveTo(x, y);
+                } else {
+                    g.lineTo(x, y);
+                }
+            }
+            g.stroke();
+            cmds += PATH_POINTS + 3;
+        }
+
+        n = texts.get();
+        g.setFont(font);
+        g.setFill(Color.BLACK);
+        cmds += 2;
+        for (int i = 0; i < n; i++) {
+            double x = pos(i, 4, frame) * width;
+            double y = pos(i, 5, frame) * height;
+            g.fillText("Text " + i, x, y);
+            cmds++;
+        }
+
+        n = images.get();
+        Image im = image();
+        for (int i = 0; i < n; i++) {
+            double x = pos(i, 6, frame) * (width - IMAGE_SIZE);
+            double y = pos(i, 7, frame) * (height - IMAGE_SIZE);
+            g.drawImage(im, x, y);
+            cmds++;
+        }
+        return cmds;
+    }
+}
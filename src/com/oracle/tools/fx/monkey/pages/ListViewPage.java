@@ -26,7 +26,6 @@ package com.oracle.tools.fx.monkey.pages;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
 import java.util.function.Supplier;
 import javafx.beans.property.ObjectProperty;
 import javafx.collections.ObservableList;
@@ -53,6 +52,9 @@ import com.oracle.tools.fx.monkey.options.EnumOption;
 import com.oracle.tools.fx.monkey.options.ObjectOption;
 import com.oracle.tools.fx.monkey.sheets.ControlPropertySheet;
 import com.oracle.tools.fx.monkey.sheets.Options;
+import com.oracle.tools.fx.monkey.util.BackgroundChoice;
+import com.oracle.tools.fx.monkey.util.BackgroundChoice.Progress;
+import com.oracle.tools.fx.monkey.util.DataGenerator;
 import com.oracle.tools.fx.monkey.util.FX;
 import com.oracle.tools.fx.monkey.util.HasSkinnable;
 import com.oracle.tools.fx.monkey.util.ImageTools;
@@ -238,13 +240,17 @@ public class ListViewPage extends TestPaneBase implements HasSkinnable {
         return n + "." + SequenceNumber.next();
     }
 
-    private String newVariableItem(Object n) {
-        int rows = 1 << new Random().nextInt(5);
-        return newItem(n, rows);
+    private String newItem(Object n, DataGenerator g) {
+        return n + "." + g.nextWord();
     }
 
-    private String newLargeItem(Object n) {
-        return newItem(n, 200);
+    private String newVariableItem(Object n, DataGenerator g) {
+        int rows = 1 << g.nextInt(5);
+        return newItem(newItem(n, g), rows);
+    }
+
+    private String newLargeItem(Object n, DataGenerator g) {
+        return newItem(newItem(n, g), 200);
     }
 
     private String newItem(Object n, int rows) {
@@ -255,29 +261,24 @@ public class ListViewPage extends TestPaneBase implements HasSkinnable {
             }
             sb.append(i);
         }
-        return n + "." + SequenceNumber.next() + "." + sb;
+        return n + "." + sb;
     }
 
-    private Supplier<List<Object>> createItems(int count) {
-        return () -> {
-            ArrayList<Object> rv = new ArrayList<>(count);
-            for (int i = 0; i < count; i++) {
-                Object v = newItem(i);
-                rv.add(v);
-            }
-            return rv;
-        };
+    private List<Object> createItems(Progress p, int count) {
+        DataGenerator g = DataGenerator.create("ListViewPage").fork(count);
+        return BackgroundChoice.parallelList(p, count, (i) -> newItem(i, g.fork(i)));
     }
 
     private Supplier<List<Object>> createVariableItems(int count) {
         return () -> {
+            DataGenerator g = DataGenerator.create("ListViewPage.variable").fork(count);
             ArrayList<Object> rv = new ArrayList<>(count);
             int i = 0;
             for ( ; i < count; i++) {
-                Object v = newVariableItem(i);
+                Object v = newVariableItem(i, g);
                 rv.add(v);
             }
-            rv.add(newLargeItem(i));
+            rv.add(newLargeItem(i, g));
             return rv;
         };
     }
@@ -286,11 +287,11 @@ public class ListViewPage extends TestPaneBase implements HasSkinnable {
         ObjectSelector<List<Object>> s = new ObjectSelector<>(name, (v) -> {
             items.setAll(v);
         });
-        s.addChoiceSupplier("1 Row", createItems(1));
-        s.addChoiceSupplier("10 Rows", createItems(10));
-        s.addChoiceSupplier("200 Rows", createItems(200));
-        s.addChoiceSupplier("10,000 Rows", createItems(10_000));
-        s.addChoiceSupplier("500,000 Rows", createItems(500_000));
+        s.addChoiceSupplier("1 Row", () -> createItems(BackgroundChoice.NONE, 1));
+        s.addChoiceSupplier("10 Rows", () -> createItems(BackgroundChoice.NONE, 10));
+        s.addChoiceSupplier("200 Rows", () -> createItems(BackgroundChoice.NONE, 200));
+        s.addBackgroundChoice("10,000 Rows", (p) -> createItems(p, 10_000));
+        s.addBackgroundChoice("500,000 Rows", (p) -> createItems(p, 500_000));
         s.addChoiceSupplier("10 Variable Height Rows", createVariableItems(10));
         s.addChoiceSupplier("200 Variable HeightRows", createVariableItems(200));
         s.addChoiceSupplier("2,000 Variable HeightRows", createVariableItems(2000));
@@ -26,7 +26,6 @@ package com.oracle.tools.fx.monkey.pages;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
 import javafx.collections.ObservableList;
 import javafx.scene.AccessibleAttribute;
 import javafx.scene.Node;
@@ -40,6 +39,7 @@ import com.oracle.tools.fx.monkey.Loggers;
 import com.oracle.tools.fx.monkey.options.BooleanOption;
 import com.oracle.tools.fx.monkey.options.DoubleOption;
 import com.oracle.tools.fx.monkey.sheets.ChartPropertySheet;
+import com.oracle.tools.fx.monkey.util.DataGenerator;
 import com.oracle.tools.fx.monkey.util.ObjectSelector;
 import com.oracle.tools.fx.monkey.util.OptionPane;
 import com.oracle.tools.fx.monkey.util.TestPaneBase;
@@ -81,7 +81,7 @@ public class PieChartPage extends TestPaneBase {
     }
 
     private List<PieChart.Data> createData(int max) {
-        Random rnd = new Random();
+        DataGenerator rnd = DataGenerator.create("PieChartPage").fork(max);
         int sz = rnd.nextInt(max);
         ArrayList<Data> a = new ArrayList<>(sz);
         for (int i = 0; i < sz; i++) {
@@ -25,8 +25,11 @@
 package com.oracle.tools.fx.monkey.pages;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import javafx.application.Platform;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.collections.FXCollections;
@@ -62,12 +65,16 @@ import com.oracle.tools.fx.monkey.options.ObjectOption;
 import com.oracle.tools.fx.monkey.sheets.ControlPropertySheet;
 import com.oracle.tools.fx.monkey.sheets.Options;
 import com.oracle.tools.fx.monkey.sheets.TableColumnPropertySheet;
+import com.oracle.tools.fx.monkey.util.BackgroundChoice;
+import com.oracle.tools.fx.monkey.util.BackgroundChoice.Progress;
 import com.oracle.tools.fx.monkey.util.ColumnBuilder;
+import com.oracle.tools.fx.monkey.util.DataColumns;
 import com.oracle.tools.fx.monkey.util.DataRow;
 import com.oracle.tools.fx.monkey.util.FX;
 import com.oracle.tools.fx.monkey.util.HasSkinnable;
 import com.oracle.tools.fx.monkey.util.ObjectSelector;
 import com.oracle.tools.fx.monkey.util.OptionPane;
+import com.oracle.tools.fx.monkey.util.ParallelSort;
 import com.oracle.tools.fx.monkey.util.TestPaneBase;
 import com.oracle.tools.fx.monkey.util.Utils;
 
@@ -77,6 +84,8 @@ import com.oracle.tools.fx.monkey.util.Utils;
 public class TableViewPage extends TestPaneBase implements HasSkinnable {
     private final TableView<DataRow> control;
     private static final Label measurer = createMeasurer();
+    private Label sortTime;
+    private int sortGeneration;
 
     public TableViewPage() {
         super("TableViewPage");
@@ -395,11 +404,20 @@ public class TableViewPage extends TestPaneBase implements HasSkinnable {
     private List<DataRow> createRows(int count) {
         ArrayList<DataRow> rv = new ArrayList<>(count);
         for (int i = 0; i < count; i++) {
-            rv.add(new DataRow());
+            rv.add(new DataRow(i));
         }
         return rv;
     }
 
+    private static List<DataRow> createRows(Progress p, int count) {
+        return BackgroundChoice.parallelList(p, count, (i) -> new DataRow(i));
+    }
+
+    private static List<DataRow> createColumnarRows(Progress p, int count) {
+        DataColumns store = new DataColumns(count);
+        return BackgroundChoice.parallelList(p, count, store::row);
+    }
+
     private Node createItemsOptions(String name, ObservableList<DataRow> items) {
         ObjectSelector<List<DataRow>> s = new ObjectSelector<>(name, (v) -> {
             items.setAll(v);
@@ -408,8 +426,10 @@ public class TableViewPage extends TestPaneBase implements HasSkinnable {
         s.addChoiceSupplier("10 Rows", () -> createRows(10));
         s.addChoiceSupplier("100 Rows", () -> createRows(100));
         s.addChoiceSupplier("1,000 Rows", () -> createRows(1000));
-        s.addChoiceSupplier("10,000 Rows", () -> createRows(10_000));
-        s.addChoiceSupplier("500,000 Rows", () -> createRows(500_000));
+        s.addBackgroundChoice("10,000 Rows", (p) -> createRows(p, 10_000));
+        s.addBackgroundChoice("500,000 Rows", (p) -> createRows(p, 500_000));
+        s.addBackgroundChoice("1,000,000 Rows (Columnar)", (p) -> createColumnarRows(p, 1_000_000));
+        s.addBackgroundChoice("10,000,000 Rows (Columnar)", (p) -> createColumnarRows(p, 10_000_000));
         s.addChoiceSupplier("<empty>", () -> createRows(0));
         return s;
     }
@@ -470,6 +490,8 @@ public class TableViewPage extends TestPaneBase implements HasSkinnable {
         Callback<TableView<DataRow>, Boolean> defaultValue = p.get();
         ObjectOption<Callback<TableView<DataRow>, Boolean>> s = new ObjectOption<>(name, p);
         s.addChoice("<default>", defaultValue);
+        s.addChoice("<default>, Timed", timed(defaultValue));
+        s.addChoice("Parallel Key Sort", this::parallelSort);
         s.addChoice("String Sorting", new Callback<TableView<DataRow>, Boolean>() {
             @Override
             public Boolean call(TableView<DataRow> t) {
@@ -503,4 +525,177 @@ public class TableViewPage extends TestPaneBase implements HasSkinnable {
         s.selectFirst();
         return s;
     }
+
+    private Callback<TableView<DataRow>, Boolean> timed(Callback<TableView<DataRow>, Boolean> policy) {
+        return (t) -> {
+            long start = System.nanoTime();
+            Boolean rv = policy.call(t);
+            double ms = (System.nanoTime() - start) / 1_000_000.0;
+            reportSortTime(String.format("sort: %.1f ms", ms));
+            return rv;
+        };
+    }
+
+    /**
+     * Extracts the sort keys once in the FX thread, sorts a permutation in the background
+     * with a stable parallel merge sort, then applies it with a single setAll().
+     * Numeric columns are compared as long or double values, other columns as strings,
+     * with nulls first.
+     */
+    private Boolean parallelSort(TableView<DataRow> t) {
+        int gen = ++sortGeneration;
+        List<TableColumn<DataRow, ?>> order = t.getSortOrder();
+        if (order.isEmpty()) {
+            return Boolean.TRUE;
+        }
+
+        ObservableList<DataRow> items = t.getItems();
+        DataRow[] rows = items.toArray(DataRow[]::new);
+        int sz = order.size();
+
+        long t0 = System.nanoTime();
+        Object[] keys = new Object[sz];
+        boolean[] descending = new boolean[sz];
+        for (int i = 0; i < sz; i++) {
+            TableColumn<DataRow, ?> tc = order.get(i);
+            keys[i] = extractKeys(tc, rows);
+            descending[i] = (tc.getSortType() == TableColumn.SortType.DESCENDING);
+        }
+        long t1 = System.nanoTime();
+
+        ForkJoinPool.commonPool().execute(() -> {
+            try {
+                int[] ix = new int[rows.length];
+                for (int i = 0; i < ix.length; i++) {
+                    ix[i] = i;
+                }
+                ParallelSort.sort(ix, (a, b) -> compareKeys(keys, descending, a, b));
+                DataRow[] sorted = new DataRow[rows.length];
+                for (int i = 0; i < ix.length; i++) {
+                    sorted[i] = rows[ix[i]];
+                }
+                long t2 = System.nanoTime();
+
+                Platform.runLater(() -> {
+                    if ((gen != sortGeneration) || (t.getItems() != items) || (items.size() != rows.length)) {
+                        return;
+                    }
+                    long t3 = System.nanoTime();
+                    items.setAll(sorted);
+                    long t4 = System.nanoTime();
+                    reportSortTime(String.format(
+                        "keys: %.1f ms, sort: %.1f ms, apply: %.1f ms",
+                        (t1 - t0) / 1_000_000.0,
+                        (t2 - t1) / 1_000_000.0,
+                        (t4 - t3) / 1_000_000.0));
+                });
+            } catch (Throwable e) {
+                e.printStackTrace();
+            }
+        });
+        return Boolean.TRUE;
+    }
+
+    /** numeric sort keys, with the null values marked in the bitmap */
+    private record LongKeys(long[] values, BitSet nulls) { }
+
+    private record DoubleKeys(double[] values, BitSet nulls) { }
+
+    private static Object extractKeys(TableColumn<DataRow, ?> tc, DataRow[] rows) {
+        int sz = rows.length;
+        Object[] values = new Object[sz];
+        boolean integral = true;
+        boolean numeric = true;
+        BitSet nulls = new BitSet(sz);
+        for (int i = 0; i < sz; i++) {
+            Object v = tc.getCellData(rows[i]);
+            values[i] = v;
+            if (v == null) {
+                nulls.set(i);
+            } else if (!((v instanceof Integer) || (v instanceof Long) || (v instanceof Short) || (v instanceof Byte))) {
+                integral = false;
+                if (!(v instanceof Number)) {
+                    numeric = false;
+                }
+            }
+        }
+
+        if (numeric && (nulls.cardinality() < sz)) {
+            if (integral) {
+                long[] keys = new long[sz];
+                for (int i = 0; i < sz; i++) {
+                    if (values[i] instanceof Number n) {
+                        keys[i] = n.longValue();
+                    }
+                }
+                return new LongKeys(keys, nulls);
+            } else {
+                double[] keys = new double[sz];
+                for (int i = 0; i < sz; i++) {
+                    if (values[i] instanceof Number n) {
+                        keys[i] = n.doubleValue();
+                    }
+                }
+                return new DoubleKeys(keys, nulls);
+            }
+        } else {
+            String[] keys = new String[sz];
+            for (int i = 0; i < sz; i++) {
+                Object v = values[i];
+                keys[i] = (v == null) ? null : v.toString();
+            }
+            return keys;
+        }
+    }
+
+    private static int compareKeys(Object[] keys, boolean[] descending, int a, int b) {
+        for (int i = 0; i < keys.length; i++) {
+            Object k = keys[i];
+            int d;
+            if (k instanceof LongKeys v) {
+                d = compareNulls(v.nulls(), a, b);
+                if ((d == 0) && !v.nulls().get(a)) {
+                    d = Long.compare(v.values()[a], v.values()[b]);
+                }
+            } else if (k instanceof DoubleKeys v) {
+                d = compareNulls(v.nulls(), a, b);
+                if ((d == 0) && !v.nulls().get(a)) {
+                    d = Double.compare(v.values()[a], v.values()[b]);
+                }
+            } else {
+                String[] v = (String[])k;
+                String sa = v[a];
+                String sb = v[b];
+                if (sa == null) {
+                    d = (sb == null) ? 0 : -1;
+                } else if (sb == null) {
+                    d = 1;
+                } else {
+                    d = sa.compareTo(sb);
+                }
+            }
+
+            if (d != 0) {
+                return descending[i] ? -d : d;
+            }
+        }
+        return 0;
+    }
+
+    /** nulls first, returns 0 when both or neither are null */
+    private static int compareNulls(BitSet nulls, int a, int b) {
+        boolean na = nulls.get(a);
+        boolean nb = nulls.get(b);
+        if (na == nb) {
+            return 0;
+        }
+        return na ? -1 : 1;
+    }
+
+    private void reportSortTime(String text) {
+        if (sortTime == null) {
+            sortTime = toolbar().add(new Label());
+        }
+        sortTime.setText(text);
+    }
 }
@@ -57,8 +57,11 @@ import com.oracle.tools.fx.monkey.options.ObjectOption;
 import com.oracle.tools.fx.monkey.sheets.ControlPropertySheet;
 import com.oracle.tools.fx.monkey.sheets.Options;
 import com.oracle.tools.fx.monkey.sheets.TableColumnPropertySheet;
+import com.oracle.tools.fx.monkey.util.BackgroundChoice;
+import com.oracle.tools.fx.monkey.util.BackgroundChoice.Progress;
 import com.oracle.tools.fx.monkey.util.ColumnBuilder;
 import com.oracle.tools.fx.monkey.util.ContextMenuOptions;
+import com.oracle.tools.fx.monkey.util.DataColumns;
 import com.oracle.tools.fx.monkey.util.DataRow;
 import com.oracle.tools.fx.monkey.util.FX;
 import com.oracle.tools.fx.monkey.util.HasSkinnable;
@@ -365,21 +368,36 @@ public class TreeTableViewPage extends TestPaneBase implements HasSkinnable {
 
     private Supplier<TreeItem<DataRow>> mk(boolean nullValue, int count) {
         return () -> {
-            TreeItem<DataRow> root = new TreeItem<>(nullValue ? null : new DataRow());
+            TreeItem<DataRow> root = new TreeItem<>(nullValue ? null : new DataRow(-1));
             for (int i = 0; i < count; i++) {
-                root.getChildren().add(new TreeItem<>(new DataRow()));
+                root.getChildren().add(new TreeItem<>(new DataRow(i)));
             }
             return root;
         };
     }
 
+    private static TreeItem<DataRow> mk(Progress p, int count) {
+        TreeItem<DataRow> root = new TreeItem<>(new DataRow(-1));
+        root.getChildren().setAll(BackgroundChoice.parallelList(p, count, (i) -> new TreeItem<>(new DataRow(i))));
+        return root;
+    }
+
+    // TreeTableView needs a TreeItem per row, which limits the useful size even with the columnar store
+    private static TreeItem<DataRow> mkColumnar(Progress p, int count) {
+        DataColumns store = new DataColumns(count + 1);
+        TreeItem<DataRow> root = new TreeItem<>(store.row(count));
+        root.getChildren().setAll(BackgroundChoice.parallelList(p, count, (i) -> new TreeItem<>(store.row(i))));
+        return root;
+    }
+
     private Node createRootOptions(String name, ObjectProperty<TreeItem<DataRow>> p) {
         ObjectOption<TreeItem<DataRow>> s = new ObjectOption(name, p);
         s.addChoiceSupplier("1 Row", mk(false, 1));
         s.addChoiceSupplier("10 Rows", mk(false, 10));
         s.addChoiceSupplier("1,000 Rows", mk(false, 1_000));
-        s.addChoiceSupplier("10,000 Rows", mk(false, 10_000));
-        s.addChoiceSupplier("100,000 Rows", mk(false, 100_000));
+        s.addBackgroundChoice("10,000 Rows", (pr) -> mk(pr, 10_000));
+        s.addBackgroundChoice("100,000 Rows", (pr) -> mk(pr, 100_000));
+        s.addBackgroundChoice("1,000,000 Rows (Columnar)", (pr) -> mkColumnar(pr, 1_000_000));
         s.addChoiceSupplier("null value + 5 Rows", mk(true, 5));
         s.addChoiceSupplier("null value + 15 Rows", mk(true, 15));
         s.addChoice("<null>", null);
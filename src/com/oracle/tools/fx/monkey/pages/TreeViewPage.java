@@ -45,6 +45,9 @@ import com.oracle.tools.fx.monkey.options.BooleanOption;
 import com.oracle.tools.fx.monkey.options.ObjectOption;
 import com.oracle.tools.fx.monkey.sheets.ControlPropertySheet;
 import com.oracle.tools.fx.monkey.sheets.Options;
+import com.oracle.tools.fx.monkey.util.BackgroundChoice;
+import com.oracle.tools.fx.monkey.util.BackgroundChoice.Progress;
+import com.oracle.tools.fx.monkey.util.DataGenerator;
 import com.oracle.tools.fx.monkey.util.FX;
 import com.oracle.tools.fx.monkey.util.HasSkinnable;
 import com.oracle.tools.fx.monkey.util.ObjectSelector;
@@ -140,13 +143,16 @@ public class TreeViewPage extends TestPaneBase implements HasSkinnable {
     }
 
     private Supplier<TreeItem<Object>> mk(boolean nullValue, int count) {
-        return () -> {
-            TreeItem<Object> root = new TreeItem<>(nullValue ? null : "ROOT");
-            for (int i = 0; i < count; i++) {
-                root.getChildren().add(new TreeItem<>(String.valueOf("Item_" + (seq++))));
-            }
-            return root;
-        };
+        return () -> mk(BackgroundChoice.NONE, nullValue, count);
+    }
+
+    private static TreeItem<Object> mk(Progress p, boolean nullValue, int count) {
+        DataGenerator g = DataGenerator.create("TreeViewPage").fork(count);
+        TreeItem<Object> root = new TreeItem<>(nullValue ? null : "ROOT");
+        root.getChildren().setAll(BackgroundChoice.parallelList(p, count, (i) -> {
+            return new TreeItem<>("Item_" + i + "." + g.fork(i).nextWord());
+        }));
+        return root;
     }
 
     private Node createRootOptions(String name, ObjectProperty<TreeItem<Object>> p) {
@@ -154,7 +160,7 @@ public class TreeViewPage extends TestPaneBase implements HasSkinnable {
         s.addChoiceSupplier("1 Row", mk(false, 1));
         s.addChoiceSupplier("10 Rows", mk(false, 10));
         s.addChoiceSupplier("1,000 Rows", mk(false, 1_000));
-        s.addChoiceSupplier("500,000 Rows", mk(false, 500_000));
+        s.addBackgroundChoice("500,000 Rows", (pr) -> mk(pr, false, 500_000));
         s.addChoiceSupplier("null value + 5 Rows", mk(true, 5));
         s.addChoiceSupplier("null value + 15 Rows", mk(true, 15));
         s.addChoice("<null>", null);
@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package com.oracle.tools.fx.monkey.pages;
+
+import java.util.ArrayList;
+import javafx.application.Platform;
+import javafx.beans.InvalidationListener;
+import javafx.beans.property.ReadOnlyStringProperty;
+import javafx.beans.property.ReadOnlyStringWrapper;
+import javafx.scene.chart.NumberAxis;
+import javafx.scene.chart.XYChart;
+import com.oracle.tools.fx.monkey.util.DataGenerator;
+import com.oracle.tools.fx.monkey.util.Downsampling;
+
+/**
+ * Keeps a large series in primitive arrays and hands the chart only the visible points,
+ * optionally downsampled to the plot width.  The points are recomputed when the x axis range
+ * or width changes.
+ */
+public class XYChartDownsampler {
+    public enum Mode {
+        NONE,
+        LTTB,
+        MIN_MAX
+    }
+
+    private final XYChart<Number, Number> chart;
+    private final NumberAxis xAxis;
+    private final ReadOnlyStringWrapper status = new ReadOnlyStringWrapper();
+    private final InvalidationListener listener = (x) -> requestUpdate();
+    private XYChart.Series<Number, Number> series;
+    private Mode mode = Mode.NONE;
+    private double[] xs;
+    private double[] ys;
+    private int size;
+    private boolean updateRequested;
+    private int seq;
+
+    public XYChartDownsampler(XYChart<Number, Number> chart) {
+        this.chart = chart;
+        this.xAxis = (NumberAxis)chart.getXAxis();
+    }
+
+    public ReadOnlyStringProperty statusProperty() {
+        return status.getReadOnlyProperty();
+    }
+
+    public void setMode(Mode m) {
+        mode = (m == null) ? Mode.NONE : m;
+        requestUpdate();
+    }
+
+    /** replaces the large series with a random walk of the specified size, or removes it when size is 0 */
+    public void load(int count) {
+        if (count <= 0) {
+            if (series != null) {
+                chart.getData().remove(series);
+                series = null;
+                xAxis.lowerBoundProperty().removeListener(listener);
+                xAxis.upperBoundProperty().removeListener(listener);
+                xAxis.widthProperty().removeListener(listener);
+            }
+            xs = null;
+            ys = null;
+            size = 0;
+            status.set(null);
+            return;
+        }
+
+        double[][] walk = randomWalk(count);
+        xs = walk[0];
+        ys = walk[1];
+        size = count;
+
+        if (series == null) {
+            series = new XYChart.Series<>();
+            series.setName("Large" + (seq++));
+            chart.getData().add(series);
+            xAxis.lowerBoundProperty().addListener(listener);
+            xAxis.upperBoundProperty().addListener(listener);
+            xAxis.widthProperty().addListener(listener);
+        }
+        requestUpdate();
+    }
+
+    /** returns {xs, ys} of a seeded random walk, so the same data can be loaded into different charts */
+    static double[][] randomWalk(int count) {
+        DataGenerator g = DataGenerator.create("XYChartDownsampler").fork(count);
+        double[] xs = new double[count];
+        double[] ys = new double[count];
+        double y = 0.0;
+        for (int i = 0; i < count; i++) {
+            y += g.nextDouble() - 0.5;
+            xs[i] = i;
+            ys[i] = y;
+        }
+        return new double[][] { xs, ys };
+    }
+
+    private void requestUpdate() {
+        // coalesces the changes caused by the layout of the chart in the same pulse
+        if ((series != null) && !updateRequested) {
+            updateRequested = true;
+            Platform.runLater(this::update);
+        }
+    }
+
+    private void update() {
+        updateRequested = false;
+        if (series == null) {
+            return;
+        }
+
+        long start = System.nanoTime();
+
+        // the visible range, plus one point on each side so the line reaches the edges
+        double x0;
+        double x1;
+        int from;
+        int to;
+        if (xAxis.isAutoRanging()) {
+            x0 = xs[0];
+            x1 = xs[size - 1];
+            from = 0;
+            to = size;
+        } else {
+            x0 = xAxis.getLowerBound();
+            x1 = xAxis.getUpperBound();
+            from = Math.max(0, Downsampling.lowerBound(xs, size, x0) - 1);
+            to = Math.min(size, Downsampling.lowerBound(xs, size, x1) + 1);
+        }
+
+        int width = Math.max(1, (int)xAxis.getWidth());
+        int[] ix = switch (mode) {
+        case LTTB -> Downsampling.lttb(xs, ys, from, to, Math.max(3, width));
+        case MIN_MAX -> Downsampling.minMax(xs, ys, from, to, x0, x1, width);
+        default -> null;
+        };
+
+        int count = (ix == null) ? (to - from) : ix.length;
+        ArrayList<XYChart.Data<Number, Number>> data = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int j = (ix == null) ? (from + i) : ix[i];
+            data.add(new XYChart.Data<>(xs[j], ys[j]));
+        }
+        long computed = System.nanoTime();
+
+        series.getData().setAll(data);
+        long applied = System.nanoTime();
+
+        status.set(String.format(
+            "raw: %,d, rendered: %,d (%.1f ms, set %.1f ms)",
+            size,
+            count,
+            (computed - start) / 1_000_000.0,
+            (applied - computed) / 1_000_000.0));
+    }
+}
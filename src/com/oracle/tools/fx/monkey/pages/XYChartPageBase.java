@@ -24,7 +24,6 @@
  */
 package com.oracle.tools.fx.monkey.pages;
 
-import java.util.Random;
 import javafx.collections.ObservableList;
 import javafx.geometry.Side;
 import javafx.scene.chart.Axis;
@@ -41,6 +40,7 @@ import com.oracle.tools.fx.monkey.options.IntOption;
 import com.oracle.tools.fx.monkey.options.PaintOption;
 import com.oracle.tools.fx.monkey.options.TextOption;
 import com.oracle.tools.fx.monkey.sheets.Options;
+import com.oracle.tools.fx.monkey.util.DataGenerator;
 import com.oracle.tools.fx.monkey.util.OptionPane;
 import com.oracle.tools.fx.monkey.util.TestPaneBase;
 
@@ -51,11 +51,38 @@ public abstract class XYChartPageBase extends TestPaneBase {
 
     public abstract XYChart<?, Number> chart();
 
-    protected static final Random random = new Random();
+    protected final DataGenerator random;
     private int seq;
+    private XYChartStreamer streamer;
+    private XYChartDownsampler downsampler;
 
     public XYChartPageBase(String name) {
         super(name);
+        random = DataGenerator.create(name);
+    }
+
+    public final XYChartStreamer streamer() {
+        if (streamer == null) {
+            streamer = new XYChartStreamer(chart());
+        }
+        return streamer;
+    }
+
+    /** returns the downsampler, or null if the chart does not have a NumberAxis for X */
+    public final XYChartDownsampler downsampler() {
+        if (downsampler == null) {
+            if (chart().getXAxis() instanceof NumberAxis) {
+                downsampler = new XYChartDownsampler((XYChart<Number, Number>)chart());
+            }
+        }
+        return downsampler;
+    }
+
+    @Override
+    public void deactivate() {
+        if (streamer != null) {
+            streamer.stop();
+        }
     }
 
     protected CategoryAxis createCategoryAxis(String text) {
@@ -0,0 +1,245 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package com.oracle.tools.fx.monkey.pages;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.locks.LockSupport;
+import javafx.animation.AnimationTimer;
+import javafx.beans.property.ReadOnlyStringProperty;
+import javafx.beans.property.ReadOnlyStringWrapper;
+import javafx.beans.property.SimpleIntegerProperty;
+import javafx.collections.ObservableList;
+import javafx.scene.chart.CategoryAxis;
+import javafx.scene.chart.XYChart;
+import com.oracle.tools.fx.monkey.util.DataGenerator;
+
+/**
+ * Streams live data into an XYChart.
+ * <p>
+ * A background producer generates random walk points at the specified rate into a double buffer,
+ * the FX application thread drains the buffer once per pulse, adding each series' points with a single
+ * {@code addAll()} and trimming the series to the sliding window with a single {@code remove(from, to)}.
+ */
+public class XYChartStreamer {
+    /** points per second, all series combined */
+    public final SimpleIntegerProperty rate = new SimpleIntegerProperty(1_000);
+    /** number of series, applied on start */
+    public final SimpleIntegerProperty seriesCount = new SimpleIntegerProperty(1);
+    /** maximum number of points in each series */
+    public final SimpleIntegerProperty window = new SimpleIntegerProperty(1_000);
+    private final ReadOnlyStringWrapper status = new ReadOnlyStringWrapper();
+    private final XYChart<?, Number> chart;
+    private final AnimationTimer timer;
+    private XYChart.Series[] series;
+    private volatile Producer producer;
+    private long reportTime;
+    private int frames;
+    private long points;
+
+    public XYChartStreamer(XYChart<?, Number> chart) {
+        this.chart = chart;
+
+        timer = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                consume(now);
+            }
+        };
+    }
+
+    public ReadOnlyStringProperty statusProperty() {
+        return status.getReadOnlyProperty();
+    }
+
+    public boolean isRunning() {
+        return producer != null;
+    }
+
+    public void start() {
+        if (isRunning()) {
+            return;
+        }
+
+        // the series from the previous run are kept on stop, so their data remain visible
+        if (series != null) {
+            chart.getData().removeAll(series);
+        }
+
+        int n = Math.max(1, seriesCount.get());
+        series = new XYChart.Series[n];
+        for (int i = 0; i < n; i++) {
+            XYChart.Series s = new XYChart.Series();
+            s.setName("Live" + i);
+            series[i] = s;
+            chart.getData().add(s);
+        }
+
+        producer = new Producer(n, rate.get());
+        producer.start();
+
+        reportTime = System.nanoTime();
+        frames = 0;
+        points = 0;
+        timer.start();
+    }
+
+    public void stop() {
+        if (isRunning()) {
+            producer.running = false;
+            producer = null;
+            timer.stop();
+            status.set(null);
+        }
+    }
+
+    private void consume(long now) {
+        Producer p = producer;
+        if (p == null) {
+            return;
+        }
+
+        p.rate = rate.get();
+        Batch b = p.drain();
+        boolean category = (chart.getXAxis() instanceof CategoryAxis);
+        int max = Math.max(1, window.get());
+        for (int i = 0; i < series.length; i++) {
+            int n = b.counts[i];
+            if (n == 0) {
+                continue;
+            }
+
+            long[] xs = b.xs[i];
+            double[] ys = b.ys[i];
+            // no need to add the points which would be removed right away
+            int start = Math.max(0, n - max);
+            ArrayList<XYChart.Data> list = new ArrayList<>(n - start);
+            for (int j = start; j < n; j++) {
+                Object x = category ? String.valueOf(xs[j]) : xs[j];
+                list.add(new XYChart.Data(x, ys[j]));
+            }
+
+            ObservableList<XYChart.Data> data = series[i].getData();
+            int excess = data.size() + list.size() - max;
+            if (excess > 0) {
+                data.remove(0, Math.min(excess, data.size()));
+            }
+            data.addAll(list);
+            points += n;
+        }
+
+        frames++;
+        long elapsed = now - reportTime;
+        if (elapsed >= 1_000_000_000L) {
+            double sec = elapsed / 1_000_000_000.0;
+            status.set(String.format("%.1f fps, %,.0f points/s", frames / sec, points / sec));
+            reportTime = now;
+            frames = 0;
+            points = 0;
+        }
+    }
+
+    /** Points produced for each series since the last drain. */
+    private static class Batch {
+        public final long[][] xs;
+        public final double[][] ys;
+        public final int[] counts;
+
+        public Batch(int n) {
+            xs = new long[n][64];
+            ys = new double[n][64];
+            counts = new int[n];
+        }
+
+        public void add(int ix, long x, double y) {
+            int c = counts[ix];
+            if (c == xs[ix].length) {
+                xs[ix] = Arrays.copyOf(xs[ix], c * 2);
+                ys[ix] = Arrays.copyOf(ys[ix], c * 2);
+            }
+            xs[ix][c] = x;
+            ys[ix][c] = y;
+            counts[ix] = c + 1;
+        }
+    }
+
+    private static class Producer extends Thread {
+        private final DataGenerator generator = DataGenerator.create("XYChartStreamer");
+        private final long[] x;
+        private final double[] y;
+        private Batch front;
+        private Batch back;
+        public volatile boolean running = true;
+        public volatile int rate;
+
+        public Producer(int seriesCount, int rate) {
+            super("XYChartStreamer");
+            setDaemon(true);
+            this.rate = rate;
+            x = new long[seriesCount];
+            y = new double[seriesCount];
+            front = new Batch(seriesCount);
+            back = new Batch(seriesCount);
+        }
+
+        /** swaps the buffers, returning the points produced since the last call */
+        public synchronized Batch drain() {
+            Batch b = front;
+            front = back;
+            back = b;
+            Arrays.fill(front.counts, 0);
+            return b;
+        }
+
+        @Override
+        public void run() {
+            int n = x.length;
+            int ix = 0;
+            double credit = 0.0;
+            long time = System.nanoTime();
+            while (running) {
+                LockSupport.parkNanos(1_000_000L);
+
+                long now = System.nanoTime();
+                credit += (now - time) * rate / 1_000_000_000.0;
+                // do not accumulate more than one second worth of points after a stall
+                credit = Math.min(credit, Math.max(1, rate));
+                time = now;
+
+                int count = (int)credit;
+                credit -= count;
+                if (count > 0) {
+                    synchronized (this) {
+                        for (int i = 0; i < count; i++) {
+                            y[ix] += generator.nextDouble() - 0.5;
+                            front.add(ix, x[ix]++, y[ix]);
+                            ix = (ix + 1) % n;
+                        }
+                    }
+                }
+            }
+        }
+    }
+}
@@ -28,7 +28,12 @@ package com.oracle.tools.fx.monkey.settings;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import javafx.animation.KeyFrame;
+import javafx.application.Platform;
 import javafx.animation.Timeline;
 import javafx.collections.ListChangeListener;
 import javafx.scene.Node;
@@ -45,6 +50,11 @@ import javafx.util.Duration;
  * When using {@link FxSettingsFileProvider}, the settings file "ui-settings.properties"
  * is placed in the specified directory in the user home.
  *
+ * The changed settings are captured in the FX application thread and written to persistent media
+ * in a background thread, see {@link ISettingsProvider#snapshot()}.
+ * Saves requested while a write is in progress are coalesced into a single snapshot taken
+ * after the write completes.  Closing the last window flushes the settings synchronously.
+ *
  * TODO handle i/o errors - set handler?
  */
 public class FxSettings {
@@ -53,6 +63,21 @@ public class FxSettings {
     private static ISettingsProvider provider;
     private static boolean save;
     private static Timeline saveTimer;
+    private static ExecutorService writer;
+    // accessed in the FX application thread
+    private static Future<?> lastWrite;
+    private static boolean writing;
+    private static boolean pending;
+    private static volatile SaveMonitor monitor;
+
+    /**
+     * Receives the time spent capturing the settings in the FX application thread
+     * and writing them to persistent media, in nanoseconds.
+     */
+    @FunctionalInterface
+    public interface SaveMonitor {
+        public void saved(long snapshotTime, long writeTime);
+    }
 
     /** call this in Application.init() */
     public static synchronized void useProvider(ISettingsProvider p) {
@@ -83,6 +108,16 @@ public class FxSettings {
         }
 
         saveTimer = new Timeline(new KeyFrame(SAVE_DELAY, (ev) -> save()));
+        writer = Executors.newSingleThreadExecutor((r) -> {
+            Thread t = new Thread(r, "FxSettings");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /** sets the monitor which receives the save timing, invoked in the writer thread */
+    public static void setSaveMonitor(SaveMonitor m) {
+        monitor = m;
     }
 
     public static void useDirectory(String dir) {
@@ -90,6 +125,18 @@ public class FxSettings {
         useProvider(new FxSettingsFileProvider(d));
     }
 
+    /** uses the append-only journal provider, see {@link FxSettingsJournalProvider} */
+    public static void useJournal(String dir) {
+        File d = new File(System.getProperty("user.home"), dir);
+        useProvider(new FxSettingsJournalProvider(d));
+    }
+
+    /** uses the binary provider, see {@link FxSettingsBinaryProvider} */
+    public static void useBinary(String dir) {
+        File d = new File(System.getProperty("user.home"), dir);
+        useProvider(new FxSettingsBinaryProvider(d));
+    }
+
     public static void setName(Window w, String name) {
         // TODO
     }
@@ -129,7 +176,7 @@ public class FxSettings {
         if (last) {
             if (saveTimer != null) {
                 saveTimer.stop();
-                save();
+                flush();
             }
         }
     }
@@ -212,12 +259,76 @@ public class FxSettings {
     }
 
     private static void save() {
+        if (writing) {
+            pending = true;
+            return;
+        }
+
+        save = false;
+        long start = System.nanoTime();
+        ISettingsProvider.Saver saver = provider.snapshot();
+        if (saver == null) {
+            return;
+        }
+        long snapshotTime = System.nanoTime() - start;
+
+        writing = true;
+        lastWrite = writer.submit(() -> {
+            try {
+                write(saver, snapshotTime);
+            } catch (Throwable e) {
+                e.printStackTrace();
+            } finally {
+                // must always be handed off, otherwise no further saves are made
+                Platform.runLater(FxSettings::handleWriteCompleted);
+            }
+        });
+    }
+
+    private static void handleWriteCompleted() {
+        writing = false;
+        if (pending) {
+            pending = false;
+            save();
+        }
+    }
+
+    /** waits for the write in progress, then saves the current settings in the calling thread */
+    private static void flush() {
+        if (lastWrite != null) {
+            try {
+                lastWrite.get();
+            } catch (InterruptedException | ExecutionException e) {
+                e.printStackTrace();
+            }
+        }
+
+        save = false;
+        pending = false;
+        long start = System.nanoTime();
+        ISettingsProvider.Saver saver = provider.snapshot();
+        if (saver != null) {
+            write(saver, System.nanoTime() - start);
+        }
+    }
+
+    private static void write(ISettingsProvider.Saver saver, long snapshotTime) {
+        long start = System.nanoTime();
         try {
-            save = false;
-            provider.save();
+            saver.write();
         } catch (IOException e) {
             e.printStackTrace();
         }
+        long writeTime = System.nanoTime() - start;
+
+        if (LOG) {
+            System.out.println("FxSettings.save snapshot=" + (snapshotTime / 1000) + "us write=" + (writeTime / 1000) + "us");
+        }
+
+        SaveMonitor m = monitor;
+        if (m != null) {
+            m.saved(snapshotTime, writeTime);
+        }
     }
 
     public static void restore(Node n) {
@@ -0,0 +1,469 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package com.oracle.tools.fx.monkey.settings;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Settings provider which stores settings in a compact binary file.
+ * <p>
+ * The file is read into a heap buffer rather than memory-mapped, since a mapped file cannot be
+ * replaced on some platforms (Windows) while the mapping is alive.
+ * Only the index (keys and value offsets) is decoded on load, the values are decoded
+ * when requested by {@link #get(String)} or {@link #getSStream(String)}.
+ * The numbers in the streams are stored and read as primitives.
+ * <p>
+ * File format (big endian):
+ * <pre>
+ * int magic
+ * int count
+ * count x { short keyLength, byte[] key (utf-8), int offset, int length }
+ * values: 'S' int length, byte[] (utf-8)
+ *         'A' int count, count x { 'I' int | 'D' double | 'S' int length, byte[] (utf-8) }
+ * </pre>
+ * When the binary file does not exist, the settings are loaded from the "ui-settings.properties" file
+ * in the same directory, if present.
+ */
+public class FxSettingsBinaryProvider implements ISettingsProvider {
+    private static final String FILE_NAME = "ui-settings.bin";
+    private static final int MAGIC = 0x4D545301;
+    private static final byte T_STRING = 'S';
+    private static final byte T_STREAM = 'A';
+    private static final byte T_INT = 'I';
+    private static final byte T_DOUBLE = 'D';
+    // marks a removed key in the changes map
+    private static final Object REMOVED = new Object();
+    private final File dir;
+    private final File file;
+    // key -> index entry of the loaded file
+    private HashMap<String, Entry> index = new HashMap<>();
+    // values set since load, override the loaded ones
+    private final HashMap<String, Object> data = new HashMap<>();
+    private ByteBuffer buffer;
+
+    private record Entry(int offset, int length) { }
+
+    public FxSettingsBinaryProvider(File dir) {
+        this.dir = dir;
+        this.file = new File(dir, FILE_NAME);
+    }
+
+    @Override
+    public void load() throws IOException {
+        if (file.isFile()) {
+            ByteBuffer b = read(file);
+            HashMap<String, Entry> ix = readIndex(b);
+            synchronized (data) {
+                index = ix;
+                buffer = b;
+            }
+        } else {
+            File f = new File(dir, FxSettingsFileProvider.FILE_NAME);
+            if (f.isFile()) {
+                try (BufferedReader rd = new BufferedReader(new InputStreamReader(new FileInputStream(f), StandardCharsets.UTF_8))) {
+                    synchronized (data) {
+                        readText(rd);
+                    }
+                }
+            }
+        }
+    }
+
+    private HashMap<String, Entry> readIndex(ByteBuffer b) throws IOException {
+        if ((b.limit() < 8) || (b.getInt(0) != MAGIC)) {
+            throw new IOException("not a settings file: " + file);
+        }
+
+        int count = b.getInt(4);
+        HashMap<String, Entry> ix = new HashMap<>(count * 2);
+        int pos = 8;
+        byte[] bytes = new byte[256];
+        for (int i = 0; i < count; i++) {
+            int len = b.getShort(pos) & 0xffff;
+            pos += 2;
+            if (len > bytes.length) {
+                bytes = new byte[len];
+            }
+            b.get(pos, bytes, 0, len);
+            pos += len;
+            String k = new String(bytes, 0, len, StandardCharsets.UTF_8);
+            int offset = b.getInt(pos);
+            int length = b.getInt(pos + 4);
+            pos += 8;
+            ix.put(k, new Entry(offset, length));
+        }
+        return ix;
+    }
+
+    private void readText(BufferedReader rd) throws IOException {
+        String s;
+        while ((s = rd.readLine()) != null) {
+            int ix = s.indexOf(FxSettingsFileProvider.SEP);
+            if (ix <= 0) {
+                continue;
+            }
+            String k = s.substring(0, ix);
+            String v = s.substring(ix + 1);
+            data.put(k, v);
+        }
+    }
+
+    @Override
+    public void save() throws IOException {
+        Saver s = snapshot();
+        if (s != null) {
+            s.write();
+        }
+    }
+
+    @Override
+    public Saver snapshot() {
+        HashMap<String, Object> changes;
+        HashMap<String, Entry> ix;
+        ByteBuffer b;
+        synchronized (data) {
+            if (data.isEmpty()) {
+                return null;
+            }
+            // the index and the buffer are replaced, never modified
+            changes = new HashMap<>(data);
+            ix = index;
+            b = buffer;
+        }
+        return () -> write(changes, ix, b);
+    }
+
+    private void write(HashMap<String, Object> changes, HashMap<String, Entry> ix, ByteBuffer b) throws IOException {
+        ArrayList<String> keys = new ArrayList<>(ix.keySet());
+        for (String k: changes.keySet()) {
+            if (!ix.containsKey(k)) {
+                keys.add(k);
+            }
+        }
+        Collections.sort(keys);
+
+        // the unchanged values are copied as is, without decoding
+        ByteArrayOutputStream values = new ByteArrayOutputStream(keys.size() * 32);
+        DataOutputStream vout = new DataOutputStream(values);
+        ArrayList<Entry> entries = new ArrayList<>(keys.size());
+        for (int i = 0; i < keys.size(); i++) {
+            String k = keys.get(i);
+            int start = vout.size();
+            Object v = changes.get(k);
+            if (v == REMOVED) {
+                keys.set(i, null);
+                continue;
+            } else if (v != null) {
+                writeValue(vout, v);
+            } else {
+                Entry en = ix.get(k);
+                byte[] bytes = new byte[en.length()];
+                b.get(en.offset(), bytes);
+                vout.write(bytes);
+            }
+            entries.add(new Entry(start, vout.size() - start));
+        }
+        keys.removeIf((k) -> k == null);
+
+        byte[][] keyBytes = new byte[keys.size()][];
+        int base = 8;
+        for (int i = 0; i < keys.size(); i++) {
+            keyBytes[i] = keys.get(i).getBytes(StandardCharsets.UTF_8);
+            base += 2 + keyBytes[i].length + 8;
+        }
+
+        ByteArrayOutputStream ba = new ByteArrayOutputStream(base + values.size());
+        DataOutputStream out = new DataOutputStream(ba);
+        out.writeInt(MAGIC);
+        out.writeInt(keys.size());
+        for (int i = 0; i < keys.size(); i++) {
+            Entry en = entries.get(i);
+            out.writeShort(keyBytes[i].length);
+            out.write(keyBytes[i]);
+            out.writeInt(base + en.offset());
+            out.writeInt(en.length());
+        }
+        values.writeTo(out);
+        byte[] bytes = ba.toByteArray();
+
+        synchronized (file) {
+            dir.mkdirs();
+            File tmp = new File(dir, FILE_NAME + ".tmp");
+            Files.write(tmp.toPath(), bytes);
+            Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+            // the written bytes become the new buffer, no need to read the file back
+            ByteBuffer newBuffer = ByteBuffer.wrap(bytes);
+            HashMap<String, Entry> newIndex = readIndex(newBuffer);
+
+            synchronized (data) {
+                index = newIndex;
+                buffer = newBuffer;
+                // keep the changes made while the file was being written
+                for (Map.Entry<String, Object> en: changes.entrySet()) {
+                    data.remove(en.getKey(), en.getValue());
+                }
+            }
+        }
+    }
+
+    private static ByteBuffer read(File f) throws IOException {
+        return ByteBuffer.wrap(Files.readAllBytes(f.toPath()));
+    }
+
+    private static void writeValue(DataOutputStream out, Object v) throws IOException {
+        if (v instanceof Object[] items) {
+            out.writeByte(T_STREAM);
+            out.writeInt(items.length);
+            for (Object x: items) {
+                if (x instanceof Integer n) {
+                    out.writeByte(T_INT);
+                    out.writeInt(n);
+                } else if (x instanceof Double n) {
+                    out.writeByte(T_DOUBLE);
+                    out.writeDouble(n);
+                } else {
+                    out.writeByte(T_STRING);
+                    writeString(out, String.valueOf(x));
+                }
+            }
+        } else {
+            out.writeByte(T_STRING);
+            writeString(out, v.toString());
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String s) throws IOException {
+        byte[] b = s.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(b.length);
+        out.write(b);
+    }
+
+    private static String readString(ByteBuffer b, int pos) {
+        int len = b.getInt(pos);
+        byte[] bytes = new byte[len];
+        b.get(pos + 4, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public void set(String key, String value) {
+        if (FxSettings.LOG) {
+            System.out.println("FxSettingsBinaryProvider.set key=" + key + " value=" + value);
+        }
+        synchronized (data) {
+            data.put(key, value == null ? REMOVED : value);
+        }
+    }
+
+    @Override
+    public void set(String key, SStream stream) {
+        if (FxSettings.LOG) {
+            System.out.println("FxSettingsBinaryProvider.set key=" + key + " stream=" + stream);
+        }
+        synchronized (data) {
+            data.put(key, stream == null ? REMOVED : stream.toArray());
+        }
+    }
+
+    @Override
+    public String get(String key) {
+        String s = null;
+        synchronized (data) {
+            Object v = data.get(key);
+            if (v instanceof String) {
+                s = (String)v;
+            } else if (v == null) {
+                Entry en = index.get(key);
+                if ((en != null) && (buffer.get(en.offset()) == T_STRING)) {
+                    s = readString(buffer, en.offset() + 1);
+                }
+            }
+        }
+
+        if (FxSettings.LOG) {
+            System.out.println("FxSettingsBinaryProvider.get key=" + key + " value=" + s);
+        }
+        return s;
+    }
+
+    @Override
+    public SStream getSStream(String key) {
+        SStream s = null;
+        synchronized (data) {
+            Object v = data.get(key);
+            if (v instanceof Object[] items) {
+                s = SStream.reader(items);
+            } else if (v instanceof String text) {
+                s = FxSettingsFileProvider.parseStream(text);
+                data.put(key, s.toArray());
+            } else if (v == null) {
+                Entry en = index.get(key);
+                if (en != null) {
+                    int pos = en.offset();
+                    switch (buffer.get(pos)) {
+                    case T_STREAM:
+                        s = new BufferStream(buffer, pos + 1);
+                        break;
+                    case T_STRING:
+                        s = FxSettingsFileProvider.parseStream(readString(buffer, pos + 1));
+                        break;
+                    }
+                }
+            }
+        }
+
+        if (FxSettings.LOG) {
+            System.out.println("FxSettingsBinaryProvider.get key=" + key + " stream=" + s);
+        }
+        return s;
+    }
+
+    /**
+     * Reads the stream items directly from the buffer, without boxing the numbers.
+     */
+    private static class BufferStream extends SStream {
+        private final ByteBuffer buffer;
+        private final int start;
+        private final int count;
+        private int pos;
+        private int index;
+
+        public BufferStream(ByteBuffer buffer, int offset) {
+            this.buffer = buffer;
+            this.count = buffer.getInt(offset);
+            this.start = offset + 4;
+            this.pos = start;
+        }
+
+        @Override
+        protected Object nextValue() {
+            if (index >= count) {
+                return null;
+            }
+            index++;
+            byte t = buffer.get(pos++);
+            switch (t) {
+            case T_INT:
+                pos += 4;
+                return buffer.getInt(pos - 4);
+            case T_DOUBLE:
+                pos += 8;
+                return buffer.getDouble(pos - 8);
+            default:
+                String s = readString(buffer, pos);
+                pos += 4 + buffer.getInt(pos);
+                return s;
+            }
+        }
+
+        @Override
+        public String nextString(String defaultValue) {
+            if (index >= count) {
+                return defaultValue;
+            }
+            if (buffer.get(pos) == T_STRING) {
+                return (String)nextValue();
+            }
+            skip();
+            return defaultValue;
+        }
+
+        @Override
+        public double nextDouble(double defaultValue) {
+            if (index >= count) {
+                return defaultValue;
+            }
+            switch (buffer.get(pos)) {
+            case T_DOUBLE:
+                index++;
+                pos += 9;
+                return buffer.getDouble(pos - 8);
+            case T_STRING:
+                return super.nextDouble(defaultValue);
+            default:
+                skip();
+                return defaultValue;
+            }
+        }
+
+        @Override
+        public int nextInt(int defaultValue) {
+            if (index >= count) {
+                return defaultValue;
+            }
+            switch (buffer.get(pos)) {
+            case T_INT:
+                index++;
+                pos += 5;
+                return buffer.getInt(pos - 4);
+            case T_STRING:
+                return super.nextInt(defaultValue);
+            default:
+                skip();
+                return defaultValue;
+            }
+        }
+
+        private void skip() {
+            index++;
+            switch (buffer.get(pos++)) {
+            case T_INT:
+                pos += 4;
+                break;
+            case T_DOUBLE:
+                pos += 8;
+                break;
+            default:
+                pos += 4 + buffer.getInt(pos);
+                break;
+            }
+        }
+
+        @Override
+        public Object[] toArray() {
+            BufferStream s = new BufferStream(buffer, start - 4);
+            Object[] items = new Object[count];
+            for (int i = 0; i < count; i++) {
+                items[i] = s.nextValue();
+            }
+            return items;
+        }
+    }
+}
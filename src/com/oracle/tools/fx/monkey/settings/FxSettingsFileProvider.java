@@ -44,13 +44,14 @@ import java.util.HashMap;
  * Settings provider stores settings as a single file in the specified directory.
  */
 public class FxSettingsFileProvider implements ISettingsProvider {
-    private static final char SEP = '=';
+    static final String FILE_NAME = "ui-settings.properties";
+    static final char SEP = '=';
     private static final String DIV = ",";
     private final File file;
     private final HashMap<String, Object> data = new HashMap<>();
 
     public FxSettingsFileProvider(File dir) {
-        file = new File(dir, "ui-settings.properties");
+        file = new File(dir, FILE_NAME);
     }
 
     @Override
@@ -67,14 +68,28 @@ public class FxSettingsFileProvider implements ISettingsProvider {
 
     @Override
     public void save() throws IOException {
+        snapshot().write();
+    }
+
+    @Override
+    public Saver snapshot() {
+        // the values are immutable, a shallow copy suffices
+        HashMap<String, Object> m;
+        synchronized (data) {
+            m = new HashMap<>(data);
+        }
+        return () -> write(m);
+    }
+
+    private void write(HashMap<String, Object> m) throws IOException {
         if (file.getParentFile() != null) {
             file.getParentFile().mkdirs();
         }
 
         Charset cs = Charset.forName("utf-8");
-        try (Writer wr = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file), cs))) {
-            synchronized (data) {
-                write(wr);
+        synchronized (file) {
+            try (Writer wr = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file), cs))) {
+                write(wr, m);
             }
         }
     }
@@ -92,12 +107,12 @@ public class FxSettingsFileProvider implements ISettingsProvider {
         }
     }
 
-    private void write(Writer wr) throws IOException {
-        ArrayList<String> keys = new ArrayList<>(data.keySet());
+    private static void write(Writer wr, HashMap<String, Object> m) throws IOException {
+        ArrayList<String> keys = new ArrayList<>(m.keySet());
         Collections.sort(keys);
 
         for (String k: keys) {
-            Object v = data.get(k);
+            Object v = m.get(k);
             wr.write(k);
             wr.write(SEP);
             wr.write(encode(v));
@@ -174,12 +189,12 @@ public class FxSettingsFileProvider implements ISettingsProvider {
         return s;
     }
 
-    private static SStream parseStream(String text) {
+    static SStream parseStream(String text) {
         String[] ss = text.split(DIV);
         return SStream.reader(ss);
     }
 
-    private static String encode(Object x) {
+    static String encode(Object x) {
         if (x == null) {
             return "";
         } else if (x instanceof Object[] items) {
@@ -0,0 +1,352 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package com.oracle.tools.fx.monkey.settings;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.RandomAccessFile;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Settings provider which appends the changed key/value records to a journal file,
+ * making each save proportional to the number of changes rather than the number of keys.
+ * <p>
+ * The journal uses the same line format as {@link FxSettingsFileProvider},
+ * with a line containing only the key denoting a removal.
+ * Once the journal grows past the threshold, it gets compacted in a background thread
+ * by writing a snapshot of all the current values.
+ * When the journal does not exist, the settings are loaded from the "ui-settings.properties" file
+ * in the same directory, if present.
+ */
+public class FxSettingsJournalProvider implements ISettingsProvider {
+    private static final String JOURNAL = "ui-settings.journal";
+    private static final long DEFAULT_THRESHOLD = 256 * 1024;
+    private static final String EOL = "\r\n";
+    private final File dir;
+    private final File journal;
+    private final long threshold;
+    private final HashMap<String, Object> data = new HashMap<>();
+    // keys changed since the last successful save, a null value denotes a removal
+    private final LinkedHashMap<String, Object> changes = new LinkedHashMap<>();
+    private final Object fileLock = new Object();
+    // guarded by fileLock
+    private long compactedSize;
+    private boolean compacting;
+    private ExecutorService executor;
+
+    public FxSettingsJournalProvider(File dir, long compactionThreshold) {
+        this.dir = dir;
+        this.journal = new File(dir, JOURNAL);
+        this.threshold = compactionThreshold;
+    }
+
+    public FxSettingsJournalProvider(File dir) {
+        this(dir, DEFAULT_THRESHOLD);
+    }
+
+    @Override
+    public void load() throws IOException {
+        File f = journal;
+        if (!f.isFile()) {
+            f = new File(dir, FxSettingsFileProvider.FILE_NAME);
+            if (!f.isFile()) {
+                return;
+            }
+        }
+
+        int records;
+        int size;
+        Charset cs = Charset.forName("utf-8");
+        try (BufferedReader rd = new BufferedReader(new InputStreamReader(new FileInputStream(f), cs))) {
+            synchronized (data) {
+                records = read(rd);
+                size = data.size();
+            }
+        }
+
+        synchronized (fileLock) {
+            if (f == journal) {
+                // compact if most of the records are obsolete
+                compactedSize = (records > 2 * size) ? 0 : journal.length();
+                checkCompaction();
+            }
+        }
+    }
+
+    @Override
+    public void save() throws IOException {
+        Saver s = snapshot();
+        if (s != null) {
+            s.write();
+        }
+    }
+
+    @Override
+    public Saver snapshot() {
+        StringBuilder sb;
+        HashMap<String, Object> written;
+        synchronized (data) {
+            if (changes.isEmpty()) {
+                return null;
+            }
+
+            sb = new StringBuilder(changes.size() * 64);
+            for (Map.Entry<String, Object> en: changes.entrySet()) {
+                append(sb, en.getKey(), en.getValue());
+            }
+            written = new HashMap<>(changes);
+        }
+        return () -> {
+            write(sb.toString());
+            // the changes are kept until written, so they get retried by the next save after a failure
+            synchronized (data) {
+                for (Map.Entry<String, Object> en: written.entrySet()) {
+                    changes.remove(en.getKey(), en.getValue());
+                }
+            }
+        };
+    }
+
+    private void write(String records) throws IOException {
+        synchronized (fileLock) {
+            if (journal.isFile()) {
+                Charset cs = Charset.forName("utf-8");
+                try (Writer wr = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(journal, true), cs))) {
+                    wr.write(records);
+                }
+                checkCompaction();
+            } else {
+                // the first save writes the complete snapshot
+                dir.mkdirs();
+                File tmp = writeSnapshot();
+                move(tmp);
+            }
+        }
+    }
+
+    private int read(BufferedReader rd) throws IOException {
+        int records = 0;
+        String s;
+        while ((s = rd.readLine()) != null) {
+            int ix = s.indexOf(FxSettingsFileProvider.SEP);
+            if (ix < 0) {
+                if (!s.isEmpty()) {
+                    data.remove(s);
+                }
+            } else if (ix > 0) {
+                String k = s.substring(0, ix);
+                String v = s.substring(ix + 1);
+                data.put(k, v);
+            }
+            records++;
+        }
+        return records;
+    }
+
+    private static void append(StringBuilder sb, String key, Object value) {
+        sb.append(key);
+        if (value != null) {
+            sb.append(FxSettingsFileProvider.SEP);
+            sb.append(FxSettingsFileProvider.encode(value));
+        }
+        sb.append(EOL);
+    }
+
+    // must be called under fileLock
+    private void checkCompaction() {
+        if (compacting) {
+            return;
+        }
+
+        long limit = Math.max(threshold, 2 * compactedSize);
+        if (journal.length() > limit) {
+            compacting = true;
+            if (executor == null) {
+                executor = Executors.newSingleThreadExecutor((r) -> {
+                    Thread t = new Thread(r, "FxSettingsJournalProvider");
+                    t.setDaemon(true);
+                    return t;
+                });
+            }
+            executor.execute(this::compact);
+        }
+    }
+
+    private void compact() {
+        try {
+            long offset;
+            synchronized (fileLock) {
+                offset = journal.length();
+            }
+
+            File tmp = writeSnapshot();
+
+            synchronized (fileLock) {
+                // carry over the records appended while the snapshot was being written
+                long len = journal.length();
+                if (len > offset) {
+                    try (
+                        RandomAccessFile in = new RandomAccessFile(journal, "r");
+                        OutputStream out = new FileOutputStream(tmp, true)
+                    ) {
+                        byte[] buf = new byte[(int)(len - offset)];
+                        in.seek(offset);
+                        in.readFully(buf);
+                        out.write(buf);
+                    }
+                }
+                move(tmp);
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+        } finally {
+            synchronized (fileLock) {
+                compacting = false;
+            }
+        }
+    }
+
+    /** writes a snapshot of all the values to a temporary file */
+    private File writeSnapshot() throws IOException {
+        HashMap<String, Object> m;
+        synchronized (data) {
+            m = new HashMap<>(data);
+        }
+
+        ArrayList<String> keys = new ArrayList<>(m.keySet());
+        Collections.sort(keys);
+
+        StringBuilder sb = new StringBuilder(keys.size() * 64);
+        for (String k: keys) {
+            append(sb, k, m.get(k));
+        }
+
+        File tmp = new File(dir, JOURNAL + ".tmp");
+        Charset cs = Charset.forName("utf-8");
+        try (Writer wr = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(tmp), cs))) {
+            wr.write(sb.toString());
+        }
+        return tmp;
+    }
+
+    // must be called under fileLock
+    private void move(File tmp) throws IOException {
+        Files.move(tmp.toPath(), journal.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        compactedSize = journal.length();
+    }
+
+    @Override
+    public void set(String key, String value) {
+        if (FxSettings.LOG) {
+            System.out.println("FxSettingsJournalProvider.set key=" + key + " value=" + value);
+        }
+        synchronized (data) {
+            if (value == null) {
+                if (data.remove(key) != null) {
+                    changes.put(key, null);
+                }
+            } else {
+                data.put(key, value);
+                changes.put(key, value);
+            }
+        }
+    }
+
+    @Override
+    public void set(String key, SStream stream) {
+        if (FxSettings.LOG) {
+            System.out.println("FxSettingsJournalProvider.set key=" + key + " stream=" + stream);
+        }
+        synchronized (data) {
+            if (stream == null) {
+                if (data.remove(key) != null) {
+                    changes.put(key, null);
+                }
+            } else {
+                Object[] v = stream.toArray();
+                data.put(key, v);
+                changes.put(key, v);
+            }
+        }
+    }
+
+    @Override
+    public String get(String key) {
+        Object v;
+        synchronized (data) {
+            v = data.get(key);
+        }
+
+        String s;
+        if (v instanceof String) {
+            s = (String)v;
+        } else {
+            s = null;
+        }
+
+        if (FxSettings.LOG) {
+            System.out.println("FxSettingsJournalProvider.get key=" + key + " value=" + s);
+        }
+        return s;
+    }
+
+    @Override
+    public SStream getSStream(String key) {
+        SStream s;
+        synchronized (data) {
+            Object v = data.get(key);
+            if (v instanceof Object[]) {
+                s = SStream.reader((Object[])v);
+            } else if (v != null) {
+                s = FxSettingsFileProvider.parseStream(v.toString());
+                data.put(key, s.toArray());
+            } else {
+                s = null;
+            }
+        }
+
+        if (FxSettings.LOG) {
+            System.out.println("FxSettingsJournalProvider.get key=" + key + " stream=" + s);
+        }
+        return s;
+    }
+}
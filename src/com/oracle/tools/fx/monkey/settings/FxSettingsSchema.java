@@ -27,6 +27,8 @@
 package com.oracle.tools.fx.monkey.settings;
 
 import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
 import javafx.application.Platform;
 import javafx.beans.value.ChangeListener;
 import javafx.beans.value.ObservableValue;
@@ -70,6 +72,10 @@ public class FxSettingsSchema {
     private static final String WINDOW_MAXIMIZED = "M";
     private static final String WINDOW_FULLSCREEN = "F";
     private static final Object NAME_PROP = new Object();
+    private static final Object PATH_PROP = new Object();
+    private static final Object RESTORE_FILTER_PROP = new Object();
+    // incremented at the start of each traversal, see pathFor()
+    private static int generation;
 
     public static void storeWindow(WindowMonitor m, Window w) {
         SStream ss = SStream.writer();
@@ -139,22 +145,73 @@ public class FxSettingsSchema {
     }
 
     private static String computeName(Node n) {
-        WindowMonitor m = WindowMonitor.getFor(n);
-        if (m == null) {
-            return null;
+        NodePath p = pathFor(n);
+        return (p == null) ? null : p.key;
+    }
+
+    /**
+     * Returns the path of the node, reusing the one cached in the node properties when it is still valid,
+     * or null if the node is not in a window yet.
+     * The path validated during the current traversal is trusted without checking its ancestors,
+     * which makes storing or restoring the whole tree linear in the number of nodes.
+     */
+    private static NodePath pathFor(Node n) {
+        Parent parent = n.getParent();
+        Object owner;
+        if (parent == null) {
+            WindowMonitor m = WindowMonitor.getFor(n);
+            if (m == null) {
+                return null;
+            }
+            owner = m.getID();
+        } else {
+            owner = parent;
+        }
+
+        String name = getNodeName(n);
+        NodePath p = (n.getProperties().get(PATH_PROP) instanceof NodePath cached) ? cached : null;
+        if (p != null) {
+            if (p.isValid(owner, name)) {
+                if (p.generation == generation) {
+                    return p;
+                }
+            } else {
+                p = null;
+            }
         }
 
-        StringBuilder sb = new StringBuilder();
-        if (collectNames(sb, n)) {
-            return null;
+        NodePath parentPath = null;
+        if (parent != null) {
+            parentPath = pathFor(parent);
+            if (parentPath == null) {
+                return null;
+            }
+        }
+
+        if ((p != null) && (p.parentPath == parentPath)) {
+            // the ancestors have not changed
+            p.generation = generation;
+            return p;
         }
 
-        String id = m.getID();
-        return id + sb;
+        String key;
+        if (isIgnored(n) || (name == null)) {
+            key = null;
+        } else if (parent == null) {
+            key = owner + "." + name;
+        } else if (parentPath.key == null) {
+            key = null;
+        } else {
+            key = parentPath.key + "." + name;
+        }
+
+        p = new NodePath(owner, parentPath, name, key);
+        n.getProperties().put(PATH_PROP, p);
+        return p;
     }
 
-    // returns true if Node should be ignored
-    private static boolean collectNames(StringBuilder sb, Node n) {
+    // returns true if Node and its descendants should be ignored
+    private static boolean isIgnored(Node n) {
         if (n instanceof MenuBar) {
             return true;
         } else if (n instanceof Shape) {
@@ -162,22 +219,40 @@ public class FxSettingsSchema {
         } else if (n instanceof ImageView) {
             return true;
         }
+        return false;
+    }
 
-        Parent p = n.getParent();
-        if (p != null) {
-            if (collectNames(sb, p)) {
-                return true;
+    /**
+     * The node path cached in the node properties.
+     * It remains valid as long as the node has the same parent (or window id for the root),
+     * the same name, and the parent path is valid.
+     */
+    private static class NodePath {
+        private final Object owner;
+        private final NodePath parentPath;
+        private final String name;
+        // null if the node should be ignored
+        private final String key;
+        private int generation;
+
+        public NodePath(Object owner, NodePath parentPath, String name, String key) {
+            this.owner = owner;
+            this.parentPath = parentPath;
+            this.name = name;
+            this.key = key;
+            this.generation = FxSettingsSchema.generation;
+        }
+
+        public boolean isValid(Object owner, String name) {
+            if (owner instanceof String id) {
+                if (!id.equals(this.owner)) {
+                    return false;
+                }
+            } else if (owner != this.owner) {
+                return false;
             }
+            return Objects.equals(name, this.name);
         }
-
-        String name = getNodeName(n);
-        if (name == null) {
-            return true;
-        }
-
-        sb.append('.');
-        sb.append(name);
-        return false;
     }
 
     private static String getNodeName(Node n) {
@@ -245,7 +320,7 @@ public class FxSettingsSchema {
         FxSettings.setStream(PREFIX + name, ss);
 
         for (Node ch: sp.getItems()) {
-            storeNode(ch);
+            store(ch);
         }
     }
 
@@ -260,7 +335,7 @@ public class FxSettingsSchema {
         }
 
         for (Node ch: sp.getItems()) {
-            restoreNode(ch);
+            restore(ch);
         }
 
         SStream ss = FxSettings.getStream(PREFIX + name);
@@ -353,6 +428,12 @@ public class FxSettingsSchema {
             return;
         }
 
+        if (n.getProperties().get(RESTORE_FILTER_PROP) instanceof Predicate f) {
+            if (!f.test(n.getItems().get(ix))) {
+                return;
+            }
+        }
+
         n.getSelectionModel().select(ix);
     }
 
@@ -417,6 +498,12 @@ public class FxSettingsSchema {
             return;
         }
 
+        if (n.getProperties().get(RESTORE_FILTER_PROP) instanceof Predicate f) {
+            if (!f.test(n.getItems().get(ix))) {
+                return;
+            }
+        }
+
         n.getSelectionModel().select(ix);
     }
 
@@ -466,6 +553,15 @@ public class FxSettingsSchema {
         w.getProperties().put(NAME_PROP, name);
     }
 
+    /**
+     * Sets the filter which decides whether the stored ComboBox selection gets restored.
+     * Items rejected by the filter (for example, ones that start a long operation or open a dialog
+     * when selected) are left unselected.
+     */
+    public static <T> void setRestoreFilter(ComboBox<T> n, Predicate<T> filter) {
+        n.getProperties().put(RESTORE_FILTER_PROP, filter);
+    }
+
     /**
      * Returns the name for the purposes of storing user preferences,
      * set previously by {@link #setName(Node, String)},
@@ -497,6 +593,16 @@ public class FxSettingsSchema {
     }
 
     public static void storeNode(Node n) {
+        generation++;
+        store(n);
+    }
+
+    public static void restoreNode(Node n) {
+        generation++;
+        restore(n);
+    }
+
+    private static void store(Node n) {
         if (n instanceof HasSettings) {
             storeWithSettings(n);
         }
@@ -514,21 +620,21 @@ public class FxSettingsSchema {
             storeSplitPane(sp);
             return;
         } else if (n instanceof ScrollPane sp) {
-            storeNode(sp.getContent());
+            store(sp.getContent());
             return;
         } else if(n instanceof TitledPane tp) {
-            storeNode(tp.getContent());
+            store(tp.getContent());
         }
 
         List<? extends Node> children = getChildren(n);
         if(children != null) {
             for (Node ch: children) {
-                storeNode(ch);
+                store(ch);
             }
         }
     }
 
-    public static void restoreNode(Node n) {
+    private static void restore(Node n) {
         if (checkNoScene(n)) {
             return;
         }
@@ -546,15 +652,15 @@ public class FxSettingsSchema {
         } else if (n instanceof SplitPane sp) {
             restoreSplitPane(sp);
         } else if (n instanceof ScrollPane sp) {
-            restoreNode(sp.getContent());
+            restore(sp.getContent());
         } else if(n instanceof TitledPane tp) {
-            restoreNode(tp.getContent());
+            restore(tp.getContent());
         }
 
         List<? extends Node> children = getChildren(n);
         if(children != null) {
             for (Node ch: children) {
-                restoreNode(ch);
+                restore(ch);
             }
         }
     }
@@ -44,6 +44,16 @@ public interface ISettingsProvider {
      */
     public void save() throws IOException;
 
+    /**
+     * Captures the settings to be saved.  This method is called in the FX application thread,
+     * the returned Saver is then invoked in a background thread.
+     * The default implementation defers the whole {@link #save()} to the background thread.
+     * @return the saver, or null if there is nothing to save
+     */
+    public default Saver snapshot() {
+        return this::save;
+    }
+
     /**
      * Sets a key-value pair.
      */
@@ -63,4 +73,12 @@ public interface ISettingsProvider {
      * Retrieves a SStream value for the specific key
      */
     public SStream getSStream(String key);
+
+    /**
+     * Writes the captured settings to persistent media.
+     */
+    @FunctionalInterface
+    public interface Saver {
+        public void write() throws IOException;
+    }
 }
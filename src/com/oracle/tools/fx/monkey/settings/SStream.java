@@ -33,7 +33,8 @@ public abstract class SStream {
 
     public abstract Object[] toArray();
 
-    private SStream() {
+    // package-private: subclasses are defined by the providers in this package
+    SStream() {
     }
 
     public static SStream writer() {
@@ -91,7 +92,7 @@ public abstract class SStream {
         throw new UnsupportedOperationException();
     }
 
-    public final String nextString(String defaultValue) {
+    public String nextString(String defaultValue) {
         Object v = nextValue();
         if (v instanceof String s) {
             return s;
@@ -99,7 +100,7 @@ public abstract class SStream {
         return defaultValue;
     }
 
-    public final double nextDouble(double defaultValue) {
+    public double nextDouble(double defaultValue) {
         Object v = nextValue();
         if (v instanceof String s) {
             try {
@@ -113,7 +114,7 @@ public abstract class SStream {
         return defaultValue;
     }
 
-    public final int nextInt(int defaultValue) {
+    public int nextInt(int defaultValue) {
         Object v = nextValue();
         if (v instanceof String s) {
             try {
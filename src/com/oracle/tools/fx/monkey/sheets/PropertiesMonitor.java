@@ -28,29 +28,31 @@ import java.beans.BeanInfo;
 import java.beans.IntrospectionException;
 import java.beans.Introspector;
 import java.beans.PropertyDescriptor;
+import java.io.File;
+import java.io.IOException;
 import java.lang.reflect.Method;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
-import java.util.HashSet;
-import java.util.Iterator;
+import javafx.animation.AnimationTimer;
 import javafx.animation.KeyFrame;
 import javafx.animation.Timeline;
 import javafx.application.Platform;
+import javafx.beans.InvalidationListener;
 import javafx.beans.Observable;
-import javafx.beans.binding.Bindings;
 import javafx.beans.property.SimpleBooleanProperty;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.beans.value.ObservableValue;
 import javafx.collections.MapChangeListener;
-import javafx.collections.ObservableList;
-import javafx.collections.ObservableMap;
-import javafx.collections.ObservableSet;
 import javafx.event.EventDispatcher;
 import javafx.event.EventHandler;
 import javafx.scene.Node;
+import javafx.scene.control.Label;
+import javafx.scene.control.ToggleButton;
+import javafx.scene.control.ToolBar;
 import javafx.scene.control.TreeItem;
 import javafx.scene.control.TreeTableCell;
 import javafx.scene.control.TreeTableColumn;
@@ -58,7 +60,9 @@ import javafx.scene.control.TreeTableView;
 import javafx.scene.layout.Background;
 import javafx.scene.layout.BorderPane;
 import javafx.scene.paint.Color;
+import javafx.stage.FileChooser;
 import javafx.util.Duration;
+import com.oracle.tools.fx.monkey.util.FX;
 import com.oracle.tools.fx.monkey.util.OptionWindow;
 import com.oracle.tools.fx.monkey.util.Utils;
 
@@ -66,12 +70,25 @@ import com.oracle.tools.fx.monkey.util.Utils;
  * Monitors Public Properties or Platform Preferences.
  */
 public class PropertiesMonitor extends BorderPane {
-    private static final long HIGHLIGHT_DURATION = 3_000;
+    private static final long HIGHLIGHT_DURATION = 3_000_000_000L;
+    private static final Background HEADER_BG = Background.fill(Color.rgb(0, 0, 0, 0.1));
+    private static final Background HIGHLIGHT_BG = Background.fill(Color.rgb(255, 255, 0, 0.5));
+    private static final int RECORDER_CAPACITY = 65536;
     private final TreeTableView<Entry> table;
-    private static Timeline timeline;
-    private static HashSet<Entry> highlighted = new HashSet<>();
+    private final TreeItem<Entry> root;
+    private final PropertyRecorder recorder = new PropertyRecorder(RECORDER_CAPACITY);
+    private final ToggleButton recordButton;
+    private final Label status;
+    private Timeline statusTimer;
+    private static final Updater updater = new Updater();
+    // property descriptors, computed once per class
+    private static final HashMap<Class<?>, PropertyInfo[]> propertyIndex = new HashMap<>();
+
+    private record PropertyInfo(String name, String type, Method getter) { }
 
     private PropertiesMonitor(boolean wideKey, TreeItem<Entry> root, Runnable onHiding) {
+        this.root = root;
+
         table = new TreeTableView<>();
         table.setColumnResizePolicy(TreeTableView.CONSTRAINED_RESIZE_POLICY_SUBSEQUENT_COLUMNS);
         {
@@ -95,9 +112,32 @@ public class PropertiesMonitor extends BorderPane {
             c.setPrefWidth(300);
             table.getColumns().add(c);
         }
+        {
+            TreeTableColumn<Entry, Object> c = new TreeTableColumn<>("Updates/s");
+            c.setCellFactory((tc) -> createCell(false));
+            c.setCellValueFactory((f) -> f.getValue().getValue().rateProperty());
+            c.setPrefWidth(70);
+            table.getColumns().add(c);
+        }
         table.setShowRoot(false);
         table.setRoot(root);
+
+        recordButton = new ToggleButton("Record");
+        FX.tooltip(recordButton, "Records all the property changes (pause/resume)");
+        recordButton.selectedProperty().addListener((s, p, on) -> setRecording(on));
+
+        status = new Label();
+
+        ToolBar tb = new ToolBar(
+            recordButton,
+            FX.button("Clear", "Clears the recorded changes", this::clearRecording),
+            FX.button("Export...", "Exports the recorded changes to a CSV or binary file", this::exportRecording),
+            status
+        );
+
+        setTop(tb);
         setCenter(table);
+        updateStatus();
 
         // disconnect listeners on window hiding
         if (onHiding != null) {
@@ -107,12 +147,14 @@ public class PropertiesMonitor extends BorderPane {
                         scene.windowProperty().addListener((s2, p2, win) -> {
                             if (win != null) {
                                 win.setOnHiding((ev) -> {
+                                    recordButton.setSelected(false);
                                     onHiding.run();
                                 });
                             }
                         });
                     } else {
                         scene.getWindow().setOnHiding((ev) -> {
+                            recordButton.setSelected(false);
                             onHiding.run();
                         });
                     }
@@ -121,11 +163,72 @@ public class PropertiesMonitor extends BorderPane {
         }
     }
 
+    /** records the changes of all the properties in this monitor, not only the visible ones */
+    private void setRecording(boolean on) {
+        if (on == recorder.isRecording()) {
+            return;
+        }
+
+        recorder.setRecording(on);
+        setRecording(root, on ? recorder : null);
+
+        if (on) {
+            statusTimer = new Timeline(new KeyFrame(Duration.millis(500), (ev) -> updateStatus()));
+            statusTimer.setCycleCount(Timeline.INDEFINITE);
+            statusTimer.play();
+        } else if (statusTimer != null) {
+            statusTimer.stop();
+            statusTimer = null;
+        }
+        updateStatus();
+    }
+
+    private static void setRecording(TreeItem<Entry> item, PropertyRecorder r) {
+        Entry en = item.getValue();
+        if (en != null) {
+            en.setRecorder(r);
+        }
+        for (TreeItem<Entry> ch: item.getChildren()) {
+            setRecording(ch, r);
+        }
+    }
+
+    private void clearRecording() {
+        recorder.clear();
+        updateStatus();
+    }
+
+    private void exportRecording() {
+        FileChooser fc = new FileChooser();
+        fc.setTitle("Export Recorded Changes");
+        fc.getExtensionFilters().addAll(
+            new FileChooser.ExtensionFilter("CSV", "*.csv"),
+            new FileChooser.ExtensionFilter("Binary", "*.bin")
+        );
+        fc.setInitialFileName("properties.csv");
+        File f = fc.showSaveDialog(FX.getParentWindow(this));
+        if (f != null) {
+            try {
+                recorder.export(f);
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    private void updateStatus() {
+        long dropped = recorder.getDropped();
+        status.setText(
+            recorder.size() + " changes" +
+            (dropped > 0 ? " (" + dropped + " dropped)" : "")
+        );
+    }
+
     public static void open(Node node) {
         if (node != null) {
             String name = node.getClass().getSimpleName();
             TreeItem<Entry> root = collectProperties(node);
-            PropertiesMonitor p = new PropertiesMonitor(false, root, null);
+            PropertiesMonitor p = new PropertiesMonitor(false, root, () -> disconnect(root));
             OptionWindow.open(node, "Properties: " + name, 800, 900, p);
         }
     }
@@ -138,10 +241,30 @@ public class PropertiesMonitor extends BorderPane {
 
     private TreeTableCell createCell(boolean trackChanges) {
         return new TreeTableCell<Object, Object>() {
+            // the entry being monitored while this cell is visible
+            private Entry connected;
+            private final InvalidationListener highlightListener = (x) -> updateBackground();
+
             @Override
             protected void updateItem(Object item, boolean empty) {
                 super.updateItem(item, empty);
 
+                if (trackChanges) {
+                    Object x = empty ? null : getTableRow().getItem();
+                    Entry en = (x instanceof Entry e) ? e : null;
+                    if (connected != en) {
+                        if (connected != null) {
+                            connected.highlightedProperty().removeListener(highlightListener);
+                            connected.disconnect();
+                        }
+                        connected = en;
+                        if (en != null) {
+                            en.connect();
+                            en.highlightedProperty().addListener(highlightListener);
+                        }
+                    }
+                }
+
                 if (item == null) {
                     super.setText(null);
                     super.setGraphic(null);
@@ -155,20 +278,20 @@ public class PropertiesMonitor extends BorderPane {
 
                 Object x = getTableRow().getItem();
                 if (x instanceof Entry en) {
-                    boolean hdr = en.isHeader();
-                    backgroundProperty().unbind();
-                    setBackground(hdr ? Background.fill(Color.rgb(0, 0, 0, 0.1)) : null);
-                    setStyle(hdr ? "-fx-font-weight:bold;" : "-fx-font-weight:normal;");
-                    if (trackChanges) {
-                        backgroundProperty().bind(Bindings.createObjectBinding(
-                            () -> {
-                                return
-                                    en.highlightedProperty().get() ?
-                                    Background.fill(Color.rgb(255, 255, 0, 0.5)) :
-                                    null;
-                            },
-                            en.highlightedProperty())
-                        );
+                    setStyle(en.isHeader() ? "-fx-font-weight:bold;" : "-fx-font-weight:normal;");
+                }
+                updateBackground();
+            }
+
+            private void updateBackground() {
+                Object x = getTableRow() == null ? null : getTableRow().getItem();
+                if (x instanceof Entry en) {
+                    if (en.isHeader()) {
+                        setBackground(HEADER_BG);
+                    } else if (trackChanges && en.highlightedProperty().get()) {
+                        setBackground(HIGHLIGHT_BG);
+                    } else {
+                        setBackground(null);
                     }
                 }
             }
@@ -189,24 +312,14 @@ public class PropertiesMonitor extends BorderPane {
 
     private static void collectProperties(TreeItem<Entry> root, Node n, boolean expand) {
         ArrayList<Entry> a = new ArrayList<>();
-        try {
-            BeanInfo inf = Introspector.getBeanInfo(n.getClass());
-            PropertyDescriptor[] ps = inf.getPropertyDescriptors();
-            for (PropertyDescriptor p: ps) {
-                Entry en = createEntry(n.getClass(), n, p);
-                if (en != null) {
-                    a.add(en);
-                }
-            }
-
-            a.add(new Entry("styleClass", "ObservableList", n.getStyleClass()));
-            a.add(new Entry("pseudoClassStates", "ObservableSet", n.getPseudoClassStates()));
-            a.add(new Entry("properties", "ObservableMap", n.getProperties()));
-
-        } catch (IntrospectionException e) {
-            e.printStackTrace();
+        for (PropertyInfo p: getPropertyIndex(n.getClass())) {
+            a.add(new Entry(p.name(), p.type(), n, p.getter()));
         }
 
+        a.add(new Entry("styleClass", "ObservableList", n, n.getStyleClass()));
+        a.add(new Entry("pseudoClassStates", "ObservableSet", n, n.getPseudoClassStates()));
+        a.add(new Entry("properties", "ObservableMap", n, n.getProperties()));
+
         String type = n.getClass().getSimpleName();
         if (Utils.isBlank(type)) {
             type = n.getClass().getName();
@@ -222,6 +335,17 @@ public class PropertiesMonitor extends BorderPane {
         addSorted(ti, a);
     }
 
+    /** disconnects all the entries from the properties being monitored */
+    private static void disconnect(TreeItem<Entry> item) {
+        Entry en = item.getValue();
+        if (en != null) {
+            en.disconnectAll();
+        }
+        for (TreeItem<Entry> ch: item.getChildren()) {
+            disconnect(ch);
+        }
+    }
+
     static void addSorted(TreeItem<Entry> item, ArrayList<Entry> a) {
         Collections.sort(a, new Comparator<Entry>() {
             @Override
@@ -235,7 +359,32 @@ public class PropertiesMonitor extends BorderPane {
         }
     }
 
-    private static Entry createEntry(Class<?> cs, Object n, PropertyDescriptor pd) {
+    /**
+     * Returns the public properties of the specified class, introspected only once per class.
+     * The xxxProperty() methods are not invoked until the value is needed.
+     */
+    private static PropertyInfo[] getPropertyIndex(Class<?> cs) {
+        PropertyInfo[] ps = propertyIndex.get(cs);
+        if (ps == null) {
+            ArrayList<PropertyInfo> a = new ArrayList<>();
+            try {
+                BeanInfo inf = Introspector.getBeanInfo(cs);
+                for (PropertyDescriptor pd: inf.getPropertyDescriptors()) {
+                    PropertyInfo p = createPropertyInfo(cs, pd);
+                    if (p != null) {
+                        a.add(p);
+                    }
+                }
+            } catch (IntrospectionException e) {
+                e.printStackTrace();
+            }
+            ps = a.toArray(PropertyInfo[]::new);
+            propertyIndex.put(cs, ps);
+        }
+        return ps;
+    }
+
+    private static PropertyInfo createPropertyInfo(Class<?> cs, PropertyDescriptor pd) {
         Class<?> t = pd.getPropertyType();
         if (t == null) {
             return null;
@@ -250,13 +399,8 @@ public class PropertiesMonitor extends BorderPane {
         String pname = name + "Property";
         try {
             Method m = cs.getMethod(pname);
-            if (m != null) {
-                Object v = m.invoke(n);
-                if (v instanceof ObservableValue val) {
-                    Class<?> tp = pd.getPropertyType();
-                    String type = tp == null ? "<null>" : tp.getSimpleName();
-                    return new Entry(name, type, val);
-                }
+            if (ObservableValue.class.isAssignableFrom(m.getReturnType())) {
+                return new PropertyInfo(name, t.getSimpleName(), m);
             }
         } catch (Throwable e) {
             // ignore
@@ -264,31 +408,61 @@ public class PropertiesMonitor extends BorderPane {
         return null;
     }
 
-    private static void highlight(Entry en) {
-        if (en.setHighlight()) {
-            highlighted.add(en);
-            if (timeline == null) {
-                timeline = new Timeline(
-                    new KeyFrame(Duration.millis(250), (ev) -> {
-                        clearExpiredHighlights();
-                    }));
-                timeline.setCycleCount(Timeline.INDEFINITE);
-                timeline.play();
+    /**
+     * Applies the property changes once per frame, clears the highlights in the order they expire,
+     * and computes the update rates once per second.  Runs only while there is work to do.
+     */
+    private static class Updater extends AnimationTimer {
+        private final ArrayList<Entry> changed = new ArrayList<>();
+        // an entry is added each time it is highlighted, only the last occurrence is live
+        private final ArrayDeque<Entry> expiring = new ArrayDeque<>();
+        private final ArrayList<Entry> counting = new ArrayList<>();
+        private long nextSecond;
+        private boolean running;
+
+        public void changed(Entry en) {
+            changed.add(en);
+            if (!running) {
+                running = true;
+                nextSecond = System.nanoTime() + 1_000_000_000L;
+                start();
             }
         }
-    }
 
-    private static void clearExpiredHighlights() {
-        Iterator<Entry> it = highlighted.iterator();
-        while (it.hasNext()) {
-            Entry en = it.next();
-            if (en.checkHighlightExpired()) {
-                it.remove();
+        @Override
+        public void handle(long now) {
+            for (int i = 0; i < changed.size(); i++) {
+                Entry en = changed.get(i);
+                if (en.apply(now)) {
+                    expiring.add(en);
+                    if (!en.counting) {
+                        en.counting = true;
+                        counting.add(en);
+                    }
+                }
+            }
+            changed.clear();
+
+            while (!expiring.isEmpty()) {
+                Entry en = expiring.peek();
+                if ((en.queued == 1) && (en.expiration > now)) {
+                    break;
+                }
+                expiring.remove();
+                if (--en.queued == 0) {
+                    en.highlightedProperty().set(false);
+                }
+            }
+
+            if (now >= nextSecond) {
+                nextSecond = now + 1_000_000_000L;
+                counting.removeIf((en) -> en.updateRate());
+            }
+
+            if (changed.isEmpty() && expiring.isEmpty() && counting.isEmpty()) {
+                running = false;
+                stop();
             }
-        }
-        if (highlighted.isEmpty()) {
-            timeline.stop();
-            timeline = null;
         }
     }
 
@@ -296,17 +470,45 @@ public class PropertiesMonitor extends BorderPane {
     static class Entry {
         private final String name;
         private String type;
-        private final Observable prop;
+        private final Object owner;
+        private Observable prop;
+        // resolves the property on first use
+        private Object bean;
+        private Method getter;
         private SimpleObjectProperty<Object> value;
         private SimpleBooleanProperty highlighted;
-        private long expiration = -1;
+        private SimpleObjectProperty<Object> rate;
+        private InvalidationListener listener;
+        private int connections;
+        // accessed by the Updater
+        private boolean dirty;
+        private long expiration;
+        private int queued;
+        private int updates;
+        private boolean counting;
+        // non-null while recording
+        private PropertyRecorder recorder;
+        private Object lastValue;
 
         public Entry(String name, String type, Observable p) {
+            this(name, type, null, p);
+        }
+
+        public Entry(String name, String type, Object owner, Observable p) {
             this.name = name;
             this.type = type;
+            this.owner = owner;
             this.prop = p;
         }
 
+        public Entry(String name, String type, Object bean, Method getter) {
+            this.name = name;
+            this.type = type;
+            this.owner = bean;
+            this.bean = bean;
+            this.getter = getter;
+        }
+
         public SimpleBooleanProperty highlightedProperty() {
             if (highlighted == null) {
                 highlighted = new SimpleBooleanProperty();
@@ -314,25 +516,47 @@ public class PropertiesMonitor extends BorderPane {
             return highlighted;
         }
 
-        public boolean setHighlight() {
-            if(expiration < 0) {
-                // suppress first initialization
-                expiration = 0;
-                return false;
+        public SimpleObjectProperty<Object> rateProperty() {
+            if (rate == null) {
+                rate = new SimpleObjectProperty<>();
             }
-            highlightedProperty().set(true);
-            expiration = System.currentTimeMillis() + HIGHLIGHT_DURATION;
-            return true;
+            return rate;
         }
 
-        public boolean checkHighlightExpired() {
-            if (System.currentTimeMillis() >= expiration) {
-                highlightedProperty().set(false);
+        /** sets the rate to the number of updates since the last call, returns true if there were none */
+        private boolean updateRate() {
+            int n = updates;
+            updates = 0;
+            rateProperty().set(n == 0 ? null : n);
+            if (n == 0) {
+                counting = false;
                 return true;
             }
             return false;
         }
 
+        // invoked when the property is invalidated, the value is read in the next frame
+        private void markChanged() {
+            if (!dirty) {
+                dirty = true;
+                updater.changed(this);
+            }
+        }
+
+        /** updates the value in the Updater, returns true if the entry got highlighted */
+        private boolean apply(long now) {
+            dirty = false;
+            if (connections == 0) {
+                return false;
+            }
+            valueProperty().set(toDisplayValue(readValue()));
+            highlightedProperty().set(true);
+            expiration = now + HIGHLIGHT_DURATION;
+            queued++;
+            updates++;
+            return true;
+        }
+
         public boolean isHeader() {
             return type == null;
         }
@@ -341,45 +565,100 @@ public class PropertiesMonitor extends BorderPane {
             return name;
         }
 
+        private Observable getObservable() {
+            if (getter != null) {
+                try {
+                    prop = (Observable)getter.invoke(bean);
+                } catch (Throwable e) {
+                    // ignore
+                }
+                getter = null;
+                bean = null;
+            }
+            return prop;
+        }
+
+        private Object readValue() {
+            Observable p = getObservable();
+            if (p instanceof ObservableValue v) {
+                return v.getValue();
+            } else if (p != null) {
+                // ObservableList, ObservableSet, ObservableMap
+                return p.toString();
+            }
+            return null;
+        }
+
         public SimpleObjectProperty<Object> valueProperty() {
             if (value == null) {
-                value = new SimpleObjectProperty<>();
+                value = new SimpleObjectProperty<>(toDisplayValue(readValue()));
+            }
+            return value;
+        }
 
-                if (prop != null) {
-                    if (prop instanceof ObservableValue p) {
-                        p.addListener((src, prev, c) -> {
-                            setValue(c);
-                        });
-                        Object y = p.getValue();
-                        setValue(p.getValue());
-                    } else if (prop instanceof ObservableList p) {
-                        p.addListener((Observable x) -> {
-                            setValue(p.toString());
-                        });
-                        setValue(p.toString());
-                    } else if (prop instanceof ObservableSet p) {
-                        p.addListener((Observable x) -> {
-                            setValue(p.toString());
-                        });
-                        setValue(p.toString());
-                    } else if (prop instanceof ObservableMap p) {
-                        p.addListener((Observable x) -> {
-                            setValue(p.toString());
-                        });
-                        setValue(p.toString());
+        /** starts monitoring the property while the entry is visible */
+        public void connect() {
+            if (connections++ == 0) {
+                Observable p = getObservable();
+                if (p != null) {
+                    if (listener == null) {
+                        listener = (x) -> {
+                            if (recorder != null) {
+                                Object v = readValue();
+                                recorder.record(owner, name, lastValue, v);
+                                lastValue = v;
+                            }
+                            markChanged();
+                        };
                     }
+                    p.addListener(listener);
+                    // the value may have changed while disconnected
+                    valueProperty().set(toDisplayValue(readValue()));
                 }
             }
-            return value;
         }
 
-        private void setValue(Object x) {
+        public void disconnect() {
+            if (connections > 0) {
+                if (--connections == 0) {
+                    if ((prop != null) && (listener != null)) {
+                        prop.removeListener(listener);
+                    }
+                }
+            }
+        }
+
+        /** connects the entry and records its changes while the recorder is set */
+        public void setRecorder(PropertyRecorder r) {
+            if (isHeader()) {
+                return;
+            }
+
+            if (r != null) {
+                if (recorder == null) {
+                    connect();
+                }
+                lastValue = readValue();
+            } else if (recorder != null) {
+                disconnect();
+                lastValue = null;
+            }
+            recorder = r;
+        }
+
+        public void disconnectAll() {
+            if (connections > 0) {
+                connections = 1;
+                disconnect();
+            }
+        }
+
+        private static Object toDisplayValue(Object x) {
             if (x instanceof Node) {
                 // do not set nodes!
-                x = x.getClass().getSimpleName();
+                return x.getClass().getSimpleName();
             }
-            valueProperty().set(x);
-            highlight(this);
+            return x;
         }
 
         public String getType() {
@@ -421,17 +700,8 @@ public class PropertiesMonitor extends BorderPane {
             getChildren().add(ti);
             {
                 ArrayList<Entry> a = new ArrayList<>();
-                try {
-                    BeanInfo inf = Introspector.getBeanInfo(Platform.Preferences.class);
-                    PropertyDescriptor[] ps = inf.getPropertyDescriptors();
-                    for (PropertyDescriptor p: ps) {
-                        Entry en = createEntry(Platform.Preferences.class, pref, p);
-                        if (en != null) {
-                            a.add(en);
-                        }
-                    }
-                } catch (Exception e) {
-                    e.printStackTrace();
+                for (PropertyInfo p: getPropertyIndex(Platform.Preferences.class)) {
+                    a.add(new Entry(p.name(), p.type(), pref, p.getter()));
                 }
                 addSorted(ti, a);
             }
@@ -457,6 +727,7 @@ public class PropertiesMonitor extends BorderPane {
 
         public void disconnect() {
             Platform.getPreferences().removeListener(this);
+            PropertiesMonitor.disconnect(this);
         }
 
         @Override
@@ -468,7 +739,8 @@ public class PropertiesMonitor extends BorderPane {
                 if (v != null) {
                     en.setType(v.getClass().getSimpleName());
                 }
-                en.setValue(v);
+                // updates the entry if it is visible
+                ((SimpleObjectProperty)en.prop).set(v);
             }
         }
     }
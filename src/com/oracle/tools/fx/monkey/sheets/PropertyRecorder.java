@@ -0,0 +1,229 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package com.oracle.tools.fx.monkey.sheets;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+
+/**
+ * Records property changes in a preallocated ring buffer, overwriting the oldest events when full.
+ * The immutable values (strings, boxed primitives, enums) are stored as is and converted to strings
+ * only when exported, the text of other values (such as the lists) is captured when the change
+ * is recorded, since they might be modified later.
+ * <p>
+ * The binary export format (big endian):
+ * <pre>
+ * int magic
+ * int count
+ * count x { long nanos, string node, string property, string oldValue, string newValue }
+ * string: int index of a previously written string, or -1 followed by int length, byte[] (utf-8)
+ * </pre>
+ * All methods are expected to be called in the FX application thread.
+ */
+class PropertyRecorder {
+    private static final int MAGIC = 0x4D545052;
+    private final int mask;
+    private final long[] times;
+    private final Object[] nodes;
+    private final String[] properties;
+    private final Object[] oldValues;
+    private final Object[] newValues;
+    private long count;
+    private long start;
+    private boolean recording;
+
+    /** creates the recorder with the capacity rounded up to a power of two */
+    public PropertyRecorder(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+        mask = size - 1;
+        times = new long[size];
+        nodes = new Object[size];
+        properties = new String[size];
+        oldValues = new Object[size];
+        newValues = new Object[size];
+        clear();
+    }
+
+    public void record(Object node, String property, Object oldValue, Object newValue) {
+        int ix = (int)(count & mask);
+        times[ix] = System.nanoTime();
+        nodes[ix] = node;
+        properties[ix] = property;
+        oldValues[ix] = capture(oldValue);
+        newValues[ix] = capture(newValue);
+        count++;
+    }
+
+    public boolean isRecording() {
+        return recording;
+    }
+
+    public void setRecording(boolean on) {
+        recording = on;
+    }
+
+    public void clear() {
+        count = 0;
+        start = System.nanoTime();
+        for (int i = 0; i < times.length; i++) {
+            nodes[i] = null;
+            oldValues[i] = null;
+            newValues[i] = null;
+        }
+    }
+
+    /** returns the number of events in the buffer */
+    public int size() {
+        return (int)Math.min(count, times.length);
+    }
+
+    /** returns the number of events overwritten since the last clear */
+    public long getDropped() {
+        return Math.max(0, count - times.length);
+    }
+
+    private int indexOf(int i) {
+        return (int)((count - size() + i) & mask);
+    }
+
+    private static String nodeName(Object x) {
+        if (x == null) {
+            return "";
+        }
+        return x.getClass().getSimpleName() + "@" + Integer.toHexString(System.identityHashCode(x));
+    }
+
+    private static String valueText(Object x) {
+        return String.valueOf(x);
+    }
+
+    private static Object capture(Object x) {
+        if (
+            (x == null) ||
+            (x instanceof String) ||
+            (x instanceof Boolean) ||
+            (x instanceof Integer) ||
+            (x instanceof Long) ||
+            (x instanceof Double) ||
+            (x instanceof Float) ||
+            (x instanceof Short) ||
+            (x instanceof Byte) ||
+            (x instanceof Character) ||
+            (x instanceof Enum))
+        {
+            return x;
+        }
+        return valueText(x);
+    }
+
+    /** exports as a binary file if the name ends with .bin, or as CSV */
+    public void export(File file) throws IOException {
+        if (file.getName().endsWith(".bin")) {
+            exportBinary(file);
+        } else {
+            exportCSV(file);
+        }
+    }
+
+    public void exportCSV(File file) throws IOException {
+        try (Writer wr = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8))) {
+            wr.write("time_ns,node,property,old,new\r\n");
+            int sz = size();
+            for (int i = 0; i < sz; i++) {
+                int ix = indexOf(i);
+                wr.write(String.valueOf(times[ix] - start));
+                wr.write(',');
+                csv(wr, nodeName(nodes[ix]));
+                wr.write(',');
+                csv(wr, properties[ix]);
+                wr.write(',');
+                csv(wr, valueText(oldValues[ix]));
+                wr.write(',');
+                csv(wr, valueText(newValues[ix]));
+                wr.write("\r\n");
+            }
+        }
+    }
+
+    private static void csv(Writer wr, String s) throws IOException {
+        boolean quote = false;
+        for (int i = 0; i < s.length(); i++) {
+            switch (s.charAt(i)) {
+            case ',':
+            case '"':
+            case '\r':
+            case '\n':
+                quote = true;
+                break;
+            }
+        }
+
+        if (quote) {
+            wr.write('"');
+            wr.write(s.replace("\"", "\"\""));
+            wr.write('"');
+        } else {
+            wr.write(s);
+        }
+    }
+
+    public void exportBinary(File file) throws IOException {
+        HashMap<String, Integer> strings = new HashMap<>();
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+            int sz = size();
+            out.writeInt(MAGIC);
+            out.writeInt(sz);
+            for (int i = 0; i < sz; i++) {
+                int ix = indexOf(i);
+                out.writeLong(times[ix] - start);
+                writeString(out, strings, nodeName(nodes[ix]));
+                writeString(out, strings, properties[ix]);
+                writeString(out, strings, valueText(oldValues[ix]));
+                writeString(out, strings, valueText(newValues[ix]));
+            }
+        }
+    }
+
+    private static void writeString(DataOutputStream out, HashMap<String, Integer> strings, String s) throws IOException {
+        Integer id = strings.get(s);
+        if (id == null) {
+            strings.put(s, strings.size());
+            byte[] b = s.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(-1);
+            out.writeInt(b.length);
+            out.write(b);
+        } else {
+            out.writeInt(id);
+        }
+    }
+}
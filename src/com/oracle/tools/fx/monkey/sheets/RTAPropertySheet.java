@@ -24,6 +24,13 @@
  */
 package com.oracle.tools.fx.monkey.sheets;
 
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import javafx.application.Platform;
 import javafx.beans.binding.Bindings;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.SimpleObjectProperty;
@@ -32,16 +39,22 @@ import javafx.scene.control.Label;
 import javafx.scene.control.Menu;
 import javafx.scene.paint.Color;
 import javafx.scene.text.TextAlignment;
+import javafx.stage.FileChooser;
 import com.oracle.tools.fx.monkey.options.BooleanOption;
 import com.oracle.tools.fx.monkey.options.DurationOption;
 import com.oracle.tools.fx.monkey.options.FontOption;
 import com.oracle.tools.fx.monkey.options.InsetsOption;
 import com.oracle.tools.fx.monkey.options.ObjectOption;
+import com.oracle.tools.fx.monkey.util.BackgroundChoice;
+import com.oracle.tools.fx.monkey.util.BackgroundSyntaxDecorator;
+import com.oracle.tools.fx.monkey.util.CachedSyntaxDecorator;
 import com.oracle.tools.fx.monkey.util.ColorSideDecorator;
 import com.oracle.tools.fx.monkey.util.ContextMenuOptions;
 import com.oracle.tools.fx.monkey.util.DemoSyntaxDecorator;
 import com.oracle.tools.fx.monkey.util.FX;
 import com.oracle.tools.fx.monkey.util.HugeTextModel;
+import com.oracle.tools.fx.monkey.util.MappedTextFile;
+import com.oracle.tools.fx.monkey.util.MappedTextModel;
 import com.oracle.tools.fx.monkey.util.OptionPane;
 import com.oracle.tools.fx.monkey.util.SampleModel;
 import com.oracle.tools.fx.monkey.util.Utils;
@@ -306,6 +319,9 @@ public class RTAPropertySheet {
         };
         op.addChoice("<null>", null);
         op.addChoiceSupplier("Numbers + Keywords", DemoSyntaxDecorator::new);
+        op.addChoiceSupplier("Numbers + Keywords (Cached)", CachedSyntaxDecorator::new);
+        op.addChoiceSupplier("Java (Background)", () -> new BackgroundSyntaxDecorator(false));
+        op.addChoiceSupplier("SQL (Background)", () -> new BackgroundSyntaxDecorator(true));
         op.selectInitialValue();
         return op;
     }
@@ -321,6 +337,9 @@ public class RTAPropertySheet {
         if (initial != null) {
             op.addChoice("<initial>", initial);
         }
+        op.addBackgroundChoice("Memory-Mapped File...", (pr) -> {
+            return new CodeTextModel(MappedTextModel.createContent(openMappedFile(pr)));
+        });
         op.selectInitialValue();
         return op;
     }
@@ -336,7 +355,44 @@ public class RTAPropertySheet {
         if (initial != null) {
             op.addChoice("<initial>", initial);
         }
+        op.addBackgroundChoice("Memory-Mapped File...", (pr) -> {
+            return new MappedTextModel(openMappedFile(pr));
+        });
         op.selectInitialValue();
         return op;
     }
+
+    /**
+     * Asks the user to select a file in the FX application thread,
+     * then maps and scans it in the calling background thread.
+     */
+    private static MappedTextFile openMappedFile(BackgroundChoice.Progress pr) {
+        FutureTask<File> t = new FutureTask<>(() -> {
+            FileChooser fc = new FileChooser();
+            fc.setTitle("Open Text File");
+            return fc.showOpenDialog(null);
+        });
+        File f;
+        if (Platform.isFxApplicationThread()) {
+            t.run();
+        } else {
+            Platform.runLater(t);
+        }
+        try {
+            f = t.get();
+        } catch (InterruptedException | ExecutionException e) {
+            throw new CancellationException();
+        }
+        if (f == null) {
+            throw new CancellationException();
+        }
+
+        try {
+            MappedTextFile m = new MappedTextFile(f);
+            m.scan(pr);
+            return m;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 }
@@ -25,9 +25,16 @@
 package com.oracle.tools.fx.monkey.sheets;
 
 import javafx.scene.chart.XYChart;
+import javafx.scene.control.Button;
+import javafx.scene.control.Label;
 import com.oracle.tools.fx.monkey.options.BooleanOption;
+import com.oracle.tools.fx.monkey.options.IntOption;
+import com.oracle.tools.fx.monkey.pages.XYChartDownsampler;
 import com.oracle.tools.fx.monkey.pages.XYChartPageBase;
+import com.oracle.tools.fx.monkey.pages.XYChartStreamer;
+import com.oracle.tools.fx.monkey.settings.FxSettingsSchema;
 import com.oracle.tools.fx.monkey.util.FX;
+import com.oracle.tools.fx.monkey.util.ObjectSelector;
 import com.oracle.tools.fx.monkey.util.OptionPane;
 import com.oracle.tools.fx.monkey.util.Utils;
 
@@ -52,6 +59,49 @@ public class XYChartPropertySheet {
             FX.button("Clear", "Removes all the points in the first series", owner::clearPoints)
         ));
         // TODO context menu?
+        XYChartStreamer st = owner.streamer();
+        Button streamButton = new Button("Start Streaming");
+        FX.tooltip(streamButton, "Streams live data into new series");
+        streamButton.setOnAction((ev) -> {
+            if (st.isRunning()) {
+                st.stop();
+            } else {
+                st.start();
+            }
+            streamButton.setText(st.isRunning() ? "Stop Streaming" : "Start Streaming");
+        });
+        Label streamStatus = new Label();
+        streamStatus.textProperty().bind(st.statusProperty());
+        op.option("Streaming:", streamButton);
+        op.option("Points/sec:", new IntOption("streamRate", 1, 10_000_000, st.rate));
+        op.option("Series:", new IntOption("streamSeries", 1, 100, st.seriesCount));
+        op.option("Window:", new IntOption("streamWindow", 2, 10_000_000, st.window));
+        op.option(streamStatus);
+
+        XYChartDownsampler ds = owner.downsampler();
+        if (ds != null) {
+            ObjectSelector<Integer> load = new ObjectSelector<>("largeSeries", ds::load);
+            load.addChoice("<none>", 0);
+            load.addChoice("10,000 Points", 10_000);
+            load.addChoice("100,000 Points", 100_000);
+            load.addChoice("1,000,000 Points", 1_000_000);
+            load.addChoice("10,000,000 Points", 10_000_000);
+            load.selectFirst();
+            // loading a large series on the FX thread each time the page opens may hang the app
+            FxSettingsSchema.setRestoreFilter(load, (c) -> false);
+
+            ObjectSelector<XYChartDownsampler.Mode> mode = new ObjectSelector<>("downsampling", ds::setMode);
+            mode.addChoice("<none>", XYChartDownsampler.Mode.NONE);
+            mode.addChoice("LTTB", XYChartDownsampler.Mode.LTTB);
+            mode.addChoice("Min/Max per Pixel", XYChartDownsampler.Mode.MIN_MAX);
+            mode.selectFirst();
+
+            Label dsStatus = new Label();
+            dsStatus.textProperty().bind(ds.statusProperty());
+            op.option("Large Series:", load);
+            op.option("Downsampling:", mode);
+            op.option(dsStatus);
+        }
         op.option(new BooleanOption("horizontalGridLinesVisible", "horizontal grid lines visible", chart.horizontalGridLinesVisibleProperty()));
         op.option(new BooleanOption("horizontalZeroLineVisible", "horizontal zero line visible", chart.horizontalZeroLineVisibleProperty()));
         op.option(new BooleanOption("verticalGridLinesVisible", "vertical grid lines visible", chart.verticalGridLinesVisibleProperty()));
@@ -201,7 +201,7 @@ public class ClipboardViewer extends BorderPane {
             return textView;
         case HEX:
             {
-                byte[] b = asBytes(data);
+                ByteBuffer b = asByteBuffer(data);
                 if (b == null) {
                     textView().setModel(TextViewModel.ofText(Color.RED, "Not a binary", false));
                 } else {
@@ -244,17 +244,14 @@ public class ClipboardViewer extends BorderPane {
         return v.toString();
     }
 
-    private static byte[] asBytes(Object v) {
+    /** returns the data as a ByteBuffer without copying, or null */
+    private static ByteBuffer asByteBuffer(Object v) {
         if (v instanceof byte[] b) {
-            return b;
+            return ByteBuffer.wrap(b);
         } else if (v instanceof ByteBuffer bb) {
-            ByteBuffer buf = bb.asReadOnlyBuffer();
-            buf.position(0);
-            byte[] b = new byte[buf.limit()];
-            buf.get(b);
-            return b;
+            return bb;
         } else if (v instanceof String s) {
-            return s.getBytes(StandardCharsets.UTF_8);
+            return ByteBuffer.wrap(s.getBytes(StandardCharsets.UTF_8));
         }
         return null;
     }
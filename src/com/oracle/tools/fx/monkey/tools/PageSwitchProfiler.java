@@ -0,0 +1,235 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package com.oracle.tools.fx.monkey.tools;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.function.ToLongFunction;
+import javafx.application.Platform;
+import javafx.beans.property.ReadOnlyObjectWrapper;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.scene.Node;
+import javafx.scene.Scene;
+import javafx.scene.control.Label;
+import javafx.scene.control.TableColumn;
+import javafx.scene.control.TableView;
+import javafx.scene.layout.BorderPane;
+import com.oracle.tools.fx.monkey.Loggers;
+import com.oracle.tools.fx.monkey.util.FX;
+import com.oracle.tools.fx.monkey.util.TestPaneBase;
+
+/**
+ * Measures the cost of switching pages in the main window: storing the settings, tearing down
+ * the old page, constructing the new one, restoring the settings, then the first layout and the first
+ * render, and keeps the per-page history.
+ * The first layout time includes waiting for the next pulse, and the first render is measured
+ * up to the end of that pulse, when the frame has been handed over to the renderer.
+ * <p>
+ * The previous pages are tracked with weak references, so the pages which are still reachable
+ * after a forced GC can be reported as leaked.
+ */
+public class PageSwitchProfiler extends BorderPane {
+    private static final int MAX_HISTORY = 1000;
+    private static final ObservableList<Entry> history = FXCollections.observableArrayList();
+    private static final ArrayList<Retained> retained = new ArrayList<>();
+    private final TableView<Entry> table;
+    private final Label status;
+
+    /** Page switch measurements, in nanoseconds, or -1 when not yet measured. */
+    public static class Entry {
+        final String page;
+        long store = -1;
+        long teardown = -1;
+        long construction = -1;
+        long restore = -1;
+        long firstLayout = -1;
+        long firstRender = -1;
+        boolean leaked;
+
+        Entry(String page) {
+            this.page = page;
+        }
+
+        long total() {
+            return sum(store, teardown, construction, restore, firstLayout, firstRender);
+        }
+
+        private static long sum(long... times) {
+            long rv = 0;
+            for (long t: times) {
+                if (t < 0) {
+                    return -1;
+                }
+                rv += t;
+            }
+            return rv;
+        }
+    }
+
+    private record Retained(Entry entry, WeakReference<Node> ref) { }
+
+    /**
+     * Times a single page switch; the phase methods must be called in order.
+     */
+    public static class Switch {
+        private final Entry entry;
+        private long time;
+
+        private Switch(Entry entry) {
+            this.entry = entry;
+            this.time = System.nanoTime();
+        }
+
+        private long lap() {
+            long t = System.nanoTime();
+            long rv = t - time;
+            time = t;
+            return rv;
+        }
+
+        public void stored() {
+            entry.store = lap();
+        }
+
+        public void tornDown() {
+            entry.teardown = lap();
+        }
+
+        public void constructed(Node pane) {
+            entry.construction = lap();
+            if (pane != null) {
+                retained.add(new Retained(entry, new WeakReference<>(pane)));
+            }
+        }
+
+        /** measures the restore phase, then the first layout and render in the next pulse */
+        public void restored(Scene scene) {
+            entry.restore = lap();
+            if (scene == null) {
+                finish();
+                return;
+            }
+
+            Runnable[] li = new Runnable[1];
+            li[0] = () -> {
+                scene.removePostLayoutPulseListener(li[0]);
+                entry.firstLayout = lap();
+                // the render is synchronized at the end of this pulse, runLater comes after
+                Platform.runLater(() -> {
+                    entry.firstRender = lap();
+                    finish();
+                });
+            };
+            scene.addPostLayoutPulseListener(li[0]);
+            Platform.requestNextPulse();
+        }
+
+        private void finish() {
+            Loggers.pages.log(
+                "page", entry.page,
+                "store", entry.store,
+                "teardown", entry.teardown,
+                "construction", entry.construction,
+                "restore", entry.restore,
+                "firstLayout", entry.firstLayout,
+                "firstRender", entry.firstRender);
+            history.add(entry);
+            if (history.size() > MAX_HISTORY) {
+                history.remove(0, history.size() - MAX_HISTORY);
+            }
+        }
+    }
+
+    public PageSwitchProfiler() {
+        table = new TableView<>(history);
+        table.setColumnResizePolicy(TableView.CONSTRAINED_RESIZE_POLICY_ALL_COLUMNS);
+        TableColumn<Entry, String> c = new TableColumn<>("Page");
+        c.setCellValueFactory((f) -> new ReadOnlyObjectWrapper<>(f.getValue().page));
+        table.getColumns().add(c);
+        addColumn("Store", (e) -> e.store);
+        addColumn("Teardown", (e) -> e.teardown);
+        addColumn("Construction", (e) -> e.construction);
+        addColumn("Restore", (e) -> e.restore);
+        addColumn("First Layout", (e) -> e.firstLayout);
+        addColumn("First Render", (e) -> e.firstRender);
+        addColumn("Total", Entry::total);
+        TableColumn<Entry, String> leak = new TableColumn<>("Leaked");
+        leak.setCellValueFactory((f) -> new ReadOnlyObjectWrapper<>(f.getValue().leaked ? "LEAKED" : ""));
+        table.getColumns().add(leak);
+
+        status = new Label();
+
+        TestPaneBase.TBar tb = new TestPaneBase.TBar();
+        tb.add(FX.button("Check Leaks", "Forces GC and reports the previous pages which are still reachable", this::checkLeaks));
+        tb.add(FX.button("Clear", "Clears the history", this::clear));
+        tb.add(status);
+
+        setTop(tb);
+        setCenter(table);
+    }
+
+    private void addColumn(String name, ToLongFunction<Entry> f) {
+        TableColumn<Entry, Double> c = new TableColumn<>(name + ", ms");
+        c.setCellValueFactory((x) -> {
+            long t = f.applyAsLong(x.getValue());
+            return new ReadOnlyObjectWrapper<>(t < 0 ? null : Math.round(t / 1_000.0) / 1_000.0);
+        });
+        c.setStyle("-fx-alignment:CENTER-RIGHT;");
+        table.getColumns().add(c);
+    }
+
+    /** starts timing the switch to the specified page */
+    public static Switch begin(String page) {
+        return new Switch(new Entry(page));
+    }
+
+    private void clear() {
+        history.clear();
+        status.setText(null);
+    }
+
+    private void checkLeaks() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+
+        // the current page is expected to be reachable
+        int last = retained.size() - 1;
+        int leaks = 0;
+        for (int i = last; i >= 0; i--) {
+            Retained r = retained.get(i);
+            if (r.ref().get() == null) {
+                retained.remove(i);
+            } else if (i != last) {
+                r.entry().leaked = true;
+                leaks++;
+                Loggers.pages.log("leaked", r.entry().page);
+            }
+        }
+        status.setText(leaks == 0 ? "No leaked pages" : leaks + " leaked page(s)");
+        table.refresh();
+    }
+}
@@ -27,7 +27,9 @@ package com.oracle.tools.fx.monkey.tools;
 
 import java.io.BufferedReader;
 import java.io.StringReader;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Arrays;
 import javafx.scene.paint.Color;
 import jfx.incubator.scene.control.richtext.StyleResolver;
 import jfx.incubator.scene.control.richtext.TextPos;
@@ -45,6 +47,7 @@ public abstract class TextViewModel extends StyledTextModelViewOnlyBase {
         .setFontFamily("Monospaced")
         .build();
     private static final int WIDTH = 16;
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
 
     public static TextViewModel ofText(Color color, String text, boolean ascii) {
         ArrayList<String> lines = new ArrayList<>();
@@ -114,55 +117,62 @@ public abstract class TextViewModel extends StyledTextModelViewOnlyBase {
     }
 
     public static TextViewModel ofBytes(byte[] bytes) {
+        return ofBytes(ByteBuffer.wrap(bytes));
+    }
+
+    /**
+     * Creates a hex dump model which reads the buffer (which can be direct or mapped) without copying,
+     * formatting only the requested lines.
+     * The buffer content between 0 and its limit is shown; the buffer position is not changed.
+     */
+    public static TextViewModel ofBytes(ByteBuffer buffer) {
+        ByteBuffer buf = buffer.asReadOnlyBuffer();
+        int length = buf.limit();
         return new TextViewModel() {
-            private final StringBuilder sb = new StringBuilder(WIDTH * 3);
+            // hex block, separator, ascii block
+            private final char[] line = new char[(WIDTH * 3) + 1 + 2 + WIDTH];
+            private final byte[] bytes = new byte[WIDTH];
 
             @Override
             public String getPlainText(int index) {
                 int off = index * WIDTH;
-                int max = Math.min(bytes.length, off + WIDTH);
-                int i = 0;
-                for ( ; i < WIDTH; i++) {
-                    if (off >= bytes.length) {
-                        break;
-                    }
+                int n = Math.max(0, Math.min(WIDTH, length - off));
+                if (n > 0) {
+                    buf.get(off, bytes, 0, n);
+                }
+
+                int pos = 0;
+                for (int i = 0; i < n; i++) {
                     if (i > 0) {
-                        sb.append(' ');
+                        line[pos++] = ' ';
                     }
-                    sb.append(String.format("%02x", (0xff & bytes[off])));
+                    int c = 0xff & bytes[i];
+                    line[pos++] = HEX[c >> 4];
+                    line[pos++] = HEX[c & 0x0f];
                     if ((i & 0x07) == 0x07) {
-                        sb.append(' ');
+                        line[pos++] = ' ';
                     }
-                    off++;
                 }
 
                 // separator
-                int ct = 2 + ((WIDTH - i) * 3) + (i < (WIDTH / 2) ? 2 : 0); 
-                for(int j=0; j<ct; j++) {
-                    sb.append(' ');
-                }
+                int ct = 2 + ((WIDTH - n) * 3) + (n < (WIDTH / 2) ? 2 : 0);
+                Arrays.fill(line, pos, pos + ct, ' ');
+                pos += ct;
 
                 // ascii block
-                off = index * WIDTH;
-                for (i = 0; i < WIDTH; i++) {
-                    if (off >= bytes.length) {
-                        break;
-                    }
-                    int c = (0xff & bytes[off]);
+                for (int i = 0; i < n; i++) {
+                    int c = 0xff & bytes[i];
                     if ((c < 0x20) || (c > 0x7f)) {
                         c = '.';
                     }
-                    sb.append((char)c);
-                    off++;
+                    line[pos++] = (char)c;
                 }
-                String s = sb.toString();
-                sb.setLength(0);
-                return s;
+                return new String(line, 0, pos);
             }
 
             @Override
             public int size() {
-                return (bytes.length / WIDTH) + 1;
+                return (length / WIDTH) + 1;
             }
 
             @Override
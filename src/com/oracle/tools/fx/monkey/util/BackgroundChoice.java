@@ -0,0 +1,262 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package com.oracle.tools.fx.monkey.util;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+import javafx.application.Platform;
+import javafx.scene.control.ComboBox;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ProgressBar;
+import javafx.scene.control.Tooltip;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
+import com.oracle.tools.fx.monkey.Loggers;
+import com.oracle.tools.fx.monkey.settings.FxSettingsSchema;
+
+/**
+ * Choice whose value is generated in a background thread, so that the cost of generating
+ * large data sets is not conflated with the cost of the control being tested.
+ */
+public class BackgroundChoice<T> extends NamedValue<T> {
+    /**
+     * Generates the value in a background thread.
+     * Long running generators should check {@link Progress#isCancelled()} periodically.
+     */
+    @FunctionalInterface
+    public interface Generator<T> {
+        public T generate(Progress p);
+    }
+
+    /**
+     * Background generation progress, can be accessed from any thread.
+     */
+    public interface Progress {
+        public boolean isCancelled();
+
+        /** sets the progress, 0..1 */
+        public void setProgress(double fraction);
+    }
+
+    /** progress that is never cancelled, for generating the values synchronously */
+    public static final Progress NONE = new Progress() {
+        @Override
+        public boolean isCancelled() {
+            return false;
+        }
+
+        @Override
+        public void setProgress(double fraction) {
+        }
+    };
+
+    private static ExecutorService executor;
+    private final Generator<T> generator;
+
+    public BackgroundChoice(String name, Generator<T> generator) {
+        super(name, null);
+        this.generator = generator;
+    }
+
+    /** generates the value synchronously in the calling thread */
+    @Override
+    public T getValue() {
+        return generator.generate(NONE);
+    }
+
+    private static synchronized ExecutorService executor() {
+        if (executor == null) {
+            executor = Executors.newSingleThreadExecutor((r) -> {
+                Thread t = new Thread(r, "BackgroundChoice");
+                t.setDaemon(true);
+                return t;
+            });
+        }
+        return executor;
+    }
+
+    /**
+     * Creates a list of the specified size, generating the items in parallel with the fork/join pool.
+     * Throws CancellationException when cancelled.
+     */
+    public static <V> List<V> parallelList(Progress p, int count, IntFunction<V> f) {
+        int chunk = 16_384;
+        int chunks = (count + chunk - 1) / chunk;
+        Object[] items = new Object[count];
+        AtomicInteger done = new AtomicInteger();
+        IntStream.range(0, chunks).parallel().forEach((c) -> {
+            if (p.isCancelled()) {
+                throw new CancellationException();
+            }
+            int start = c * chunk;
+            int end = Math.min(count, start + chunk);
+            for (int i = start; i < end; i++) {
+                items[i] = f.apply(i);
+            }
+            p.setProgress(done.incrementAndGet() / (double)chunks);
+        });
+        return (List<V>)Arrays.asList(items);
+    }
+
+    /**
+     * Runs background choices for a ComboBox: shows the progress in the button cell,
+     * cancels the generation when another choice is selected or ESC is pressed,
+     * and reports the generation and application times separately.
+     */
+    public static class Support<T> {
+        private final ComboBox<NamedValue<T>> combo;
+        private final ProgressBar progressBar;
+        private Job job;
+
+        public Support(ComboBox<NamedValue<T>> combo) {
+            this.combo = combo;
+
+            progressBar = new ProgressBar();
+            progressBar.setPrefWidth(50);
+
+            combo.setButtonCell(new ListCell<>() {
+                @Override
+                protected void updateItem(NamedValue<T> item, boolean empty) {
+                    super.updateItem(item, empty);
+                    setText((empty || (item == null)) ? null : item.toString());
+                    setGraphic(isBusy() ? progressBar : null);
+                }
+            });
+
+            combo.addEventFilter(KeyEvent.KEY_PRESSED, (ev) -> {
+                if ((ev.getCode() == KeyCode.ESCAPE) && isBusy() && !combo.isShowing()) {
+                    ev.consume();
+                    cancel();
+                    combo.getSelectionModel().clearSelection();
+                }
+            });
+        }
+
+        public boolean isBusy() {
+            return job != null;
+        }
+
+        /** cancels the generation in progress, if any */
+        public void cancel() {
+            if (job != null) {
+                job.cancelled = true;
+                job = null;
+                updateProgress();
+            }
+        }
+
+        /** starts generating the value, passing it to the client in the FX application thread */
+        public void start(BackgroundChoice<T> choice, Consumer<T> client) {
+            cancel();
+            Job j = new Job();
+            job = j;
+            progressBar.setProgress(ProgressBar.INDETERMINATE_PROGRESS);
+            updateProgress();
+
+            executor().submit(() -> {
+                long t0 = System.nanoTime();
+                T v;
+                try {
+                    v = choice.generator.generate(j);
+                } catch (CancellationException e) {
+                    // the generator may cancel itself
+                    Platform.runLater(() -> finish(j));
+                    return;
+                } catch (Throwable e) {
+                    e.printStackTrace();
+                    Platform.runLater(() -> finish(j));
+                    return;
+                }
+                long generated = System.nanoTime() - t0;
+
+                Platform.runLater(() -> {
+                    if (finish(j)) {
+                        long t1 = System.nanoTime();
+                        try {
+                            client.accept(v);
+                        } catch (Throwable e) {
+                            e.printStackTrace();
+                        }
+                        long applied = System.nanoTime() - t1;
+                        report(choice, generated, applied);
+                    }
+                });
+            });
+        }
+
+        private boolean finish(Job j) {
+            if (j.cancelled || (job != j)) {
+                return false;
+            }
+            job = null;
+            updateProgress();
+            return true;
+        }
+
+        private void updateProgress() {
+            combo.getButtonCell().setGraphic(isBusy() ? progressBar : null);
+        }
+
+        private void report(BackgroundChoice<T> choice, long generated, long applied) {
+            double gen = generated / 1_000_000.0;
+            double app = applied / 1_000_000.0;
+            String text = String.format("%s: generated in %.1f ms, applied in %.1f ms", choice, gen, app);
+            combo.setTooltip(new Tooltip(text));
+            Loggers.data.log("name", FxSettingsSchema.getName(combo), "choice", choice.toString(), "generateMs", gen, "applyMs", app);
+        }
+
+        private class Job implements Progress {
+            private final AtomicBoolean pending = new AtomicBoolean();
+            private volatile boolean cancelled;
+            private volatile double progress;
+
+            @Override
+            public boolean isCancelled() {
+                return cancelled;
+            }
+
+            @Override
+            public void setProgress(double fraction) {
+                progress = fraction;
+                if (pending.compareAndSet(false, true)) {
+                    Platform.runLater(() -> {
+                        pending.set(false);
+                        if (job == this) {
+                            progressBar.setProgress(progress);
+                        }
+                    });
+                }
+            }
+        }
+    }
+}
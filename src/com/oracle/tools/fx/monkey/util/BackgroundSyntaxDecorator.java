@@ -0,0 +1,439 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package com.oracle.tools.fx.monkey.util;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import javafx.application.Platform;
+import javafx.scene.paint.Color;
+import jfx.incubator.scene.control.richtext.SyntaxDecorator;
+import jfx.incubator.scene.control.richtext.TextPos;
+import jfx.incubator.scene.control.richtext.model.CodeTextModel;
+import jfx.incubator.scene.control.richtext.model.RichParagraph;
+import jfx.incubator.scene.control.richtext.model.StyleAttributeMap;
+
+/**
+ * {@code SyntaxDecorator} for Java or SQL sources which supports multi-line constructs
+ * (block comments and text blocks) by keeping the lexer state at the start of each line.
+ * In SQL mode, {@code --} starts a line comment and the keywords are case-insensitive.
+ * <p>
+ * The FX thread keeps an immutable snapshot of the lines, updated by {@link #handleChange}.
+ * After each change, the lines starting at the change are re-lexed in a background thread
+ * until the start states converge with the previous ones, and the resulting styled runs are
+ * published back to the FX thread, which fires a style change event for the affected lines.
+ * Until then, the paragraphs are lexed synchronously using the last known start state.
+ * <p>
+ * Models with more than {@code MAX_LINES} lines are decorated line by line, without the multi-line state.
+ */
+public class BackgroundSyntaxDecorator implements SyntaxDecorator {
+    private static final int MAX_LINES = 1_000_000;
+    // lexer states
+    private static final int NORMAL = 0;
+    private static final int BLOCK_COMMENT = 1;
+    private static final int TEXT_BLOCK = 2;
+    private static final int UNKNOWN = -1;
+    // token types
+    private static final int KEYWORD = 1;
+    private static final int NUMBER = 2;
+    private static final int STRING = 3;
+    private static final int COMMENT = 4;
+    private static final StyleAttributeMap[] STYLES = {
+        null,
+        DemoSyntaxDecorator.KEYWORDS,
+        DemoSyntaxDecorator.DIGITS,
+        StyleAttributeMap.builder().setTextColor(Color.BROWN).build(),
+        StyleAttributeMap.builder().setTextColor(Color.GRAY).build()
+    };
+    private static final HashSet<String> JAVA_KEYWORDS = new HashSet<>(Arrays.asList(DemoSyntaxDecorator.KEYWORDS_LIST));
+    private static final HashSet<String> SQL_KEYWORDS = new HashSet<>(Arrays.asList(
+        "all", "alter", "and", "as", "asc", "between", "by", "create", "delete", "desc", "distinct",
+        "drop", "exists", "from", "group", "having", "in", "index", "inner", "insert", "into", "is",
+        "join", "left", "like", "limit", "not", "null", "on", "or", "order", "outer", "right",
+        "select", "set", "table", "union", "update", "values", "view", "where"
+    ));
+    private static final int[] NO_RUNS = new int[0];
+    private static ExecutorService executor;
+    private final boolean sql;
+    private CodeTextModel model;
+    // owned by the FX thread
+    private String[] lines;
+    /** the lexer state at the start of each line, plus the end state of the last line */
+    private int[] states;
+    /** styled runs {start, end, type}* for each line, or null */
+    private int[][] runs;
+    /** the range of lines whose start states have not been confirmed by the background lexer */
+    private int dirtyStart;
+    private int dirtyEnd;
+    private volatile int version;
+
+    public BackgroundSyntaxDecorator(boolean sql) {
+        this.sql = sql;
+    }
+
+    @Override
+    public String toString() {
+        return "BackgroundSyntaxDecorator{" + (sql ? "SQL" : "Java") + "}";
+    }
+
+    private static synchronized ExecutorService executor() {
+        if (executor == null) {
+            executor = Executors.newSingleThreadExecutor((r) -> {
+                Thread t = new Thread(r, "BackgroundSyntaxDecorator");
+                t.setDaemon(true);
+                t.setPriority(Thread.MIN_PRIORITY);
+                return t;
+            });
+        }
+        return executor;
+    }
+
+    private void attach(CodeTextModel m) {
+        model = m;
+        version++;
+        int sz = m.size();
+        if (sz > MAX_LINES) {
+            lines = null;
+            states = null;
+            runs = null;
+            return;
+        }
+
+        lines = new String[sz];
+        for (int i = 0; i < sz; i++) {
+            lines[i] = m.getPlainText(i);
+        }
+        states = new int[sz + 1];
+        Arrays.fill(states, UNKNOWN);
+        states[0] = NORMAL;
+        runs = new int[sz][];
+        dirtyStart = 0;
+        dirtyEnd = sz;
+        startLexer();
+    }
+
+    @Override
+    public RichParagraph createRichParagraph(CodeTextModel m, int index) {
+        if ((m != model) || ((lines != null) && (lines.length != m.size()))) {
+            attach(m);
+        }
+
+        String text;
+        int[] r;
+        if (lines == null) {
+            text = m.getPlainText(index);
+            r = lexRuns(text, NORMAL);
+        } else {
+            text = lines[index];
+            r = runs[index];
+            if (r == null) {
+                int st = states[index];
+                r = lexRuns(text, (st == UNKNOWN) ? NORMAL : st);
+                runs[index] = r;
+            }
+        }
+
+        RichParagraph.Builder b = RichParagraph.builder();
+        int beg = 0;
+        for (int i = 0; i < r.length; i += 3) {
+            int start = r[i];
+            int end = r[i + 1];
+            if (start > beg) {
+                b.addSegment(text, beg, start, null);
+            }
+            b.addSegment(text, start, end, STYLES[r[i + 2]]);
+            beg = end;
+        }
+        if (beg < text.length()) {
+            b.addSegment(text, beg, text.length(), null);
+        }
+        return b.build();
+    }
+
+    @Override
+    public void handleChange(CodeTextModel m, TextPos start, TextPos end, int charsTop, int linesAdded, int charsBottom) {
+        if (m != model) {
+            return;
+        }
+        if (lines == null) {
+            if (m.size() <= MAX_LINES) {
+                attach(m);
+            }
+            return;
+        }
+
+        // the lines [first, last] were replaced with linesAdded + 1 lines
+        int first = start.index();
+        int last = end.index();
+        int added = linesAdded + 1;
+        int removed = last - first + 1;
+        int delta = added - removed;
+        int sz = lines.length + delta;
+        if (sz > MAX_LINES) {
+            attach(m);
+            return;
+        }
+
+        String[] ls = new String[sz];
+        System.arraycopy(lines, 0, ls, 0, first);
+        for (int i = 0; i < added; i++) {
+            ls[first + i] = m.getPlainText(first + i);
+        }
+        System.arraycopy(lines, last + 1, ls, first + added, lines.length - last - 1);
+
+        int[][] rs = new int[sz][];
+        System.arraycopy(runs, 0, rs, 0, first);
+        System.arraycopy(runs, last + 1, rs, first + added, runs.length - last - 1);
+
+        int[] st = new int[sz + 1];
+        System.arraycopy(states, 0, st, 0, first + 1);
+        Arrays.fill(st, first + 1, first + added, UNKNOWN);
+        System.arraycopy(states, last + 1, st, first + added, states.length - last - 1);
+
+        lines = ls;
+        runs = rs;
+        states = st;
+
+        // merge with the range not yet confirmed by the lexer
+        if (dirtyStart <= dirtyEnd) {
+            dirtyStart = Math.min(shift(dirtyStart, first, last, delta), first);
+            dirtyEnd = Math.max(shift(dirtyEnd, first, last, delta), first + added);
+        } else {
+            dirtyStart = first;
+            dirtyEnd = first + added;
+        }
+
+        version++;
+        startLexer();
+    }
+
+    /** maps the line index from before the change to after, lines inside the change map to the first line */
+    private static int shift(int ix, int first, int last, int delta) {
+        if (ix < first) {
+            return ix;
+        } else if (ix > last) {
+            return ix + delta;
+        }
+        return first;
+    }
+
+    private void startLexer() {
+        int ver = version;
+        String[] ls = lines;
+        int[] st = states.clone();
+        int from = dirtyStart;
+        int to = dirtyEnd;
+
+        executor().submit(() -> {
+            try {
+                lexInBackground(ver, ls, st, from, to);
+            } catch (Throwable e) {
+                e.printStackTrace();
+            }
+        });
+    }
+
+    /**
+     * Lexes the lines starting at {@code from} until the start state of a line at or below {@code to}
+     * matches the previous state.
+     */
+    private void lexInBackground(int ver, String[] ls, int[] st, int from, int to) {
+        IntList list = new IntList();
+        int[][] rs = new int[Math.min(ls.length - from, 1024)][];
+        int state = st[from];
+        int i = from;
+        while (i < ls.length) {
+            if ((i > to) && (st[i] == state)) {
+                // converged
+                break;
+            }
+            st[i] = state;
+
+            if (((i - from) & 0xfff) == 0) {
+                if (ver != version) {
+                    return;
+                }
+            }
+
+            list.clear();
+            state = lex(ls[i], state, list);
+            int ix = i - from;
+            if (ix == rs.length) {
+                rs = Arrays.copyOf(rs, Math.min(ls.length - from, rs.length * 2));
+            }
+            rs[ix] = list.toArray();
+            i++;
+        }
+        if (i == ls.length) {
+            st[i] = state;
+        }
+
+        int end = i;
+        int[][] result = rs;
+        Platform.runLater(() -> publish(ver, st, result, from, end));
+    }
+
+    private void publish(int ver, int[] st, int[][] rs, int from, int to) {
+        if ((ver != version) || (lines == null)) {
+            return;
+        }
+
+        for (int i = from; i < to; i++) {
+            states[i] = st[i];
+            runs[i] = rs[i - from];
+        }
+        states[to] = st[to];
+        dirtyStart = Integer.MAX_VALUE;
+        dirtyEnd = Integer.MIN_VALUE;
+
+        if (to > from) {
+            TextPos start = TextPos.ofLeading(from, 0);
+            TextPos end = (to < lines.length) ? TextPos.ofLeading(to, 0) : model.getDocumentEnd();
+            model.fireStyleChangeEvent(start, end);
+        }
+    }
+
+    private int[] lexRuns(String text, int state) {
+        IntList list = new IntList();
+        lex(text, state, list);
+        return list.toArray();
+    }
+
+    /**
+     * Lexes a single line starting in the specified state, adding the runs {start, end, type}
+     * to the list and returning the state at the end of the line.
+     */
+    private int lex(String text, int state, IntList out) {
+        int len = text.length();
+        int i = 0;
+        while (i < len) {
+            int start = i;
+            switch (state) {
+            case BLOCK_COMMENT:
+                {
+                    int ix = text.indexOf("*/", i);
+                    i = (ix < 0) ? len : ix + 2;
+                    out.add(start, i, COMMENT);
+                    if (ix >= 0) {
+                        state = NORMAL;
+                    }
+                }
+                continue;
+            case TEXT_BLOCK:
+                {
+                    int ix = text.indexOf("\"\"\"", i);
+                    i = (ix < 0) ? len : ix + 3;
+                    out.add(start, i, STRING);
+                    if (ix >= 0) {
+                        state = NORMAL;
+                    }
+                }
+                continue;
+            }
+
+            char c = text.charAt(i);
+            if (c == '/' && next(text, i) == '*') {
+                state = BLOCK_COMMENT;
+                int ix = text.indexOf("*/", i + 2);
+                i = (ix < 0) ? len : ix + 2;
+                out.add(start, i, COMMENT);
+                if (ix >= 0) {
+                    state = NORMAL;
+                }
+            } else if ((c == '/' && next(text, i) == '/' && !sql) || (c == '-' && next(text, i) == '-' && sql)) {
+                out.add(i, len, COMMENT);
+                i = len;
+            } else if (!sql && text.startsWith("\"\"\"", i)) {
+                state = TEXT_BLOCK;
+                int ix = text.indexOf("\"\"\"", i + 3);
+                i = (ix < 0) ? len : ix + 3;
+                out.add(start, i, STRING);
+                if (ix >= 0) {
+                    state = NORMAL;
+                }
+            } else if ((c == '"') || (c == '\'')) {
+                i++;
+                while (i < len) {
+                    char ch = text.charAt(i++);
+                    if (ch == '\\') {
+                        i++;
+                    } else if (ch == c) {
+                        break;
+                    }
+                }
+                i = Math.min(i, len);
+                out.add(start, i, STRING);
+            } else if (Character.isJavaIdentifierStart(c)) {
+                i++;
+                while ((i < len) && Character.isJavaIdentifierPart(text.charAt(i))) {
+                    i++;
+                }
+                String w = text.substring(start, i);
+                if (sql ? SQL_KEYWORDS.contains(w.toLowerCase(Locale.ROOT)) : JAVA_KEYWORDS.contains(w)) {
+                    out.add(start, i, KEYWORD);
+                }
+            } else if ((c >= '0') && (c <= '9')) {
+                i++;
+                while ((i < len) && (Character.isLetterOrDigit(text.charAt(i)) || (text.charAt(i) == '.') || (text.charAt(i) == '_'))) {
+                    i++;
+                }
+                out.add(start, i, NUMBER);
+            } else {
+                i++;
+            }
+        }
+        return state;
+    }
+
+    private static char next(String text, int ix) {
+        ix++;
+        return (ix < text.length()) ? text.charAt(ix) : 0;
+    }
+
+    /** Growable int array. */
+    private static class IntList {
+        private int[] data = new int[48];
+        private int size;
+
+        public void add(int start, int end, int type) {
+            if (size + 3 > data.length) {
+                data = Arrays.copyOf(data, data.length * 2);
+            }
+            data[size++] = start;
+            data[size++] = end;
+            data[size++] = type;
+        }
+
+        public void clear() {
+            size = 0;
+        }
+
+        public int[] toArray() {
+            return (size == 0) ? NO_RUNS : Arrays.copyOf(data, size);
+        }
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package com.oracle.tools.fx.monkey.util;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import jfx.incubator.scene.control.richtext.SyntaxDecorator;
+import jfx.incubator.scene.control.richtext.TextPos;
+import jfx.incubator.scene.control.richtext.model.CodeTextModel;
+import jfx.incubator.scene.control.richtext.model.RichParagraph;
+
+/**
+ * {@code SyntaxDecorator} which emphasizes digits and keywords, same as {@link DemoSyntaxDecorator},
+ * using a hand-written scanner and a keyword trie instead of a regular expression.
+ * <p>
+ * The decorated paragraphs are kept in a bounded LRU cache, and only the paragraphs affected by
+ * the changes reported in {@link #handleChange} are invalidated.
+ * Expected to be accessed from the FX application thread only.
+ */
+public class CachedSyntaxDecorator implements SyntaxDecorator {
+    private static final int CACHE_SIZE = 1024;
+    private static final Trie TRIE = new Trie(DemoSyntaxDecorator.KEYWORDS_LIST);
+    private LinkedHashMap<Integer, RichParagraph> cache = createCache();
+    private CodeTextModel model;
+
+    public CachedSyntaxDecorator() {
+    }
+
+    @Override
+    public String toString() {
+        return "CachedSyntaxDecorator";
+    }
+
+    /** Keyword trie for the lowercase ASCII keywords. */
+    private static class Trie {
+        private final Trie[] next = new Trie['z' - 'a' + 1];
+        private boolean terminal;
+
+        public Trie() {
+        }
+
+        public Trie(String[] words) {
+            for (String w: words) {
+                Trie t = this;
+                for (int i = 0; i < w.length(); i++) {
+                    int ix = w.charAt(i) - 'a';
+                    if (t.next[ix] == null) {
+                        t.next[ix] = new Trie();
+                    }
+                    t = t.next[ix];
+                }
+                t.terminal = true;
+            }
+        }
+
+        public boolean contains(String text, int start, int end) {
+            Trie t = this;
+            for (int i = start; i < end; i++) {
+                char c = text.charAt(i);
+                if ((c < 'a') || (c > 'z')) {
+                    return false;
+                }
+                t = t.next[c - 'a'];
+                if (t == null) {
+                    return false;
+                }
+            }
+            return t.terminal;
+        }
+    }
+
+    private static LinkedHashMap<Integer, RichParagraph> createCache() {
+        return new LinkedHashMap<>(CACHE_SIZE, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, RichParagraph> eldest) {
+                return size() > CACHE_SIZE;
+            }
+        };
+    }
+
+    @Override
+    public RichParagraph createRichParagraph(CodeTextModel m, int index) {
+        if (m != model) {
+            model = m;
+            cache.clear();
+        }
+
+        RichParagraph p = cache.get(index);
+        if (p == null) {
+            p = decorate(m.getPlainText(index));
+            cache.put(index, p);
+        }
+        return p;
+    }
+
+    /** word characters, same as \w in java.util.regex */
+    private static boolean isWordChar(char c) {
+        return
+            ((c >= 'a') && (c <= 'z')) ||
+            ((c >= 'A') && (c <= 'Z')) ||
+            ((c >= '0') && (c <= '9')) ||
+            (c == '_');
+    }
+
+    private static RichParagraph decorate(String text) {
+        RichParagraph.Builder b = RichParagraph.builder();
+        int len = text.length();
+        int beg = 0;
+        int i = 0;
+        while (i < len) {
+            if (!isWordChar(text.charAt(i))) {
+                i++;
+                continue;
+            }
+
+            int start = i;
+            boolean digits = true;
+            while ((i < len) && isWordChar(text.charAt(i))) {
+                char c = text.charAt(i);
+                if ((c < '0') || (c > '9')) {
+                    digits = false;
+                }
+                i++;
+            }
+
+            if (digits || TRIE.contains(text, start, i)) {
+                if (start > beg) {
+                    b.addSegment(text, beg, start, null);
+                }
+                b.addSegment(text, start, i, digits ? DemoSyntaxDecorator.DIGITS : DemoSyntaxDecorator.KEYWORDS);
+                beg = i;
+            }
+        }
+        if (beg < len) {
+            b.addSegment(text, beg, len, null);
+        }
+        return b.build();
+    }
+
+    @Override
+    public void handleChange(CodeTextModel m, TextPos start, TextPos end, int charsTop, int linesAdded, int charsBottom) {
+        if (m != model) {
+            return;
+        }
+
+        // the paragraphs [first, last] were replaced with linesAdded + 1 paragraphs,
+        // the cached paragraphs below the change are shifted
+        int first = start.index();
+        int last = end.index();
+        int delta = linesAdded - (last - first);
+        if (delta == 0) {
+            cache.keySet().removeIf((ix) -> (ix >= first) && (ix <= last));
+            return;
+        }
+
+        ArrayList<Map.Entry<Integer, RichParagraph>> entries = new ArrayList<>(cache.entrySet());
+        LinkedHashMap<Integer, RichParagraph> c = createCache();
+        for (Map.Entry<Integer, RichParagraph> en: entries) {
+            int ix = en.getKey();
+            if (ix < first) {
+                c.put(ix, en.getValue());
+            } else if (ix > last) {
+                c.put(ix + delta, en.getValue());
+            }
+        }
+        cache = c;
+    }
+}
@@ -0,0 +1,298 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package com.oracle.tools.fx.monkey.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.scene.control.TableColumnBase;
+
+/**
+ * Columnar Data Store for large TableView/TreeTableView data sets.
+ * <p>
+ * The values are kept in primitive arrays, one per column, allocated and filled when the column
+ * is first accessed.  The column type (int, long, double, or String) and the values depend only
+ * on the seed and the column name, not on the order in which the columns get accessed.
+ * The strings are drawn from a small dictionary and stored as indexes.
+ * The rows returned by {@link #rows()} carry only the row index, and the properties
+ * are materialized on demand for the visible cells, writing the edited values back to the store.
+ * The properties are not cached: each {@code DataRow.getValue()} call allocates a new one,
+ * which is cheap and short-lived, and keeps the memory footprint independent of how many
+ * rows have been scrolled through.
+ * <p>
+ * All methods are expected to be called in the FX application thread.
+ */
+public class DataColumns {
+    private static final int DICTIONARY_SIZE = 1024;
+    private final int size;
+    private final long seed;
+    private final HashMap<Object, Column> columns = new HashMap<>();
+    private String[] dictionary;
+
+    public DataColumns(int size, long seed) {
+        this.size = size;
+        this.seed = seed;
+    }
+
+    public DataColumns(int size) {
+        this(size, DataGenerator.getGlobalSeed());
+    }
+
+    /** returns the number of rows */
+    public int size() {
+        return size;
+    }
+
+    /** creates the list of row objects */
+    public List<DataRow> rows() {
+        ArrayList<DataRow> rv = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            rv.add(new Row(this, i));
+        }
+        return rv;
+    }
+
+    /** creates a single row object */
+    public DataRow row(int index) {
+        return new Row(this, index);
+    }
+
+    /** returns the current value (Integer, Long, Double, or String) */
+    public Object get(Object key, int row) {
+        return column(key).get(row);
+    }
+
+    /** sets the value, converting it to the column type; ignores the values that cannot be converted */
+    public void set(Object key, int row, Object value) {
+        column(key).set(row, value);
+    }
+
+    private Column column(Object key) {
+        Column c = columns.get(key);
+        if (c == null) {
+            String name = (key instanceof TableColumnBase tc) ? tc.getText() : String.valueOf(key);
+            int hash = (name == null) ? 0 : name.hashCode();
+            DataGenerator r = new DataGenerator(seed).fork(hash);
+            c = switch (Math.floorMod(hash, 4)) {
+            case 0 -> new IntColumn(r, size);
+            case 1 -> new LongColumn(r, size);
+            case 2 -> new DoubleColumn(r, size);
+            default -> new StringColumn(r, size, dictionary());
+            };
+            columns.put(key, c);
+        }
+        return c;
+    }
+
+    private String[] dictionary() {
+        if (dictionary == null) {
+            DataGenerator r = new DataGenerator(seed);
+            dictionary = new String[DICTIONARY_SIZE];
+            for (int i = 0; i < DICTIONARY_SIZE; i++) {
+                dictionary[i] = r.nextWord();
+            }
+        }
+        return dictionary;
+    }
+
+    /** Lightweight row: holds only the store and the row index. */
+    private static class Row extends DataRow {
+        private final DataColumns store;
+        private final int index;
+
+        public Row(DataColumns store, int index) {
+            // avoids the shared id sequence in the default constructor
+            super(index);
+            this.store = store;
+            this.index = index;
+        }
+
+        /** allocates a new property on each call, see the class comment */
+        @Override
+        public ObjectProperty getValue(Object key) {
+            return new CellProperty(store, key, index);
+        }
+
+        @Override
+        public String toString() {
+            return "Row" + index;
+        }
+    }
+
+    /** Materialized cell value, writes the changes back to the store. */
+    private static class CellProperty extends SimpleObjectProperty<Object> {
+        private final DataColumns store;
+        private final Object key;
+        private final int index;
+
+        public CellProperty(DataColumns store, Object key, int index) {
+            super(store.get(key, index));
+            this.store = store;
+            this.key = key;
+            this.index = index;
+        }
+
+        @Override
+        protected void invalidated() {
+            store.set(key, index, get());
+        }
+    }
+
+    private static abstract class Column {
+        public abstract Object get(int row);
+
+        public abstract void set(int row, Object value);
+    }
+
+    private static class IntColumn extends Column {
+        private final int[] values;
+
+        public IntColumn(DataGenerator r, int size) {
+            values = new int[size];
+            for (int i = 0; i < size; i++) {
+                values[i] = r.nextInt();
+            }
+        }
+
+        @Override
+        public Object get(int row) {
+            return values[row];
+        }
+
+        @Override
+        public void set(int row, Object value) {
+            if (value instanceof Number n) {
+                values[row] = n.intValue();
+            } else if (value != null) {
+                try {
+                    values[row] = Integer.parseInt(value.toString().trim());
+                } catch (NumberFormatException e) {
+                    // ignore
+                }
+            }
+        }
+    }
+
+    private static class LongColumn extends Column {
+        private final long[] values;
+
+        public LongColumn(DataGenerator r, int size) {
+            values = new long[size];
+            for (int i = 0; i < size; i++) {
+                values[i] = r.nextLong();
+            }
+        }
+
+        @Override
+        public Object get(int row) {
+            return values[row];
+        }
+
+        @Override
+        public void set(int row, Object value) {
+            if (value instanceof Number n) {
+                values[row] = n.longValue();
+            } else if (value != null) {
+                try {
+                    values[row] = Long.parseLong(value.toString().trim());
+                } catch (NumberFormatException e) {
+                    // ignore
+                }
+            }
+        }
+    }
+
+    private static class DoubleColumn extends Column {
+        private final double[] values;
+
+        public DoubleColumn(DataGenerator r, int size) {
+            values = new double[size];
+            for (int i = 0; i < size; i++) {
+                values[i] = r.nextDouble() * 1_000_000.0;
+            }
+        }
+
+        @Override
+        public Object get(int row) {
+            return values[row];
+        }
+
+        @Override
+        public void set(int row, Object value) {
+            if (value instanceof Number n) {
+                values[row] = n.doubleValue();
+            } else if (value != null) {
+                try {
+                    values[row] = Double.parseDouble(value.toString().trim());
+                } catch (NumberFormatException e) {
+                    // ignore
+                }
+            }
+        }
+    }
+
+    private static class StringColumn extends Column {
+        private static final int NULL = -1;
+        private final int[] values;
+        private final ArrayList<String> strings;
+        private final HashMap<String, Integer> ids = new HashMap<>();
+
+        public StringColumn(DataGenerator r, int size, String[] dictionary) {
+            strings = new ArrayList<>(List.of(dictionary));
+            for (int i = 0; i < dictionary.length; i++) {
+                ids.put(dictionary[i], i);
+            }
+            values = new int[size];
+            for (int i = 0; i < size; i++) {
+                values[i] = r.nextInt(dictionary.length);
+            }
+        }
+
+        @Override
+        public Object get(int row) {
+            int id = values[row];
+            return (id == NULL) ? null : strings.get(id);
+        }
+
+        @Override
+        public void set(int row, Object value) {
+            if (value == null) {
+                values[row] = NULL;
+                return;
+            }
+
+            String s = value.toString();
+            Integer id = ids.get(s);
+            if (id == null) {
+                id = strings.size();
+                strings.add(s);
+                ids.put(s, id);
+            }
+            values[row] = id;
+        }
+    }
+}
@@ -0,0 +1,236 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package com.oracle.tools.fx.monkey.util;
+
+import java.util.SplittableRandom;
+
+/**
+ * Deterministic, Seeded Data Generator.
+ * <p>
+ * Every generator derives its seed from the global seed (set with {@code -Ddata.seed=N}, 1 by default)
+ * and a name or an id, so that the same sequence of user actions produces exactly the same data
+ * across runs and JavaFX builds.
+ */
+public class DataGenerator {
+    public enum Type {
+        INT,
+        LONG,
+        DOUBLE,
+        BOOLEAN,
+        STRING
+    }
+
+    public enum Distribution {
+        /** all values equally likely */
+        UNIFORM,
+        /** values clustered around the middle of the range */
+        NORMAL,
+        /** low values much more likely than high values */
+        SKEWED
+    }
+
+    /**
+     * Column specification.
+     * @param type the value type
+     * @param distribution the value distribution
+     * @param cardinality the number of distinct values, or 0 for unlimited
+     * @param nullRatio the fraction of null values, 0..1
+     */
+    public record Column(Type type, Distribution distribution, int cardinality, double nullRatio) {
+        public static Column of(Type type) {
+            return new Column(type, Distribution.UNIFORM, 0, 0.0);
+        }
+    }
+
+    private static final long GOLDEN = 0x9E3779B97F4A7C15L;
+    private static long globalSeed = Long.getLong("data.seed", 1L);
+    private final long seed;
+    private final SplittableRandom random;
+
+    public DataGenerator(long seed) {
+        this.seed = seed;
+        this.random = new SplittableRandom(seed);
+    }
+
+    /** creates a generator for the named data set, seeded with the global seed */
+    public static DataGenerator create(String name) {
+        return new DataGenerator(mix(globalSeed ^ name.hashCode()));
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public static long getGlobalSeed() {
+        return globalSeed;
+    }
+
+    public static void setGlobalSeed(long seed) {
+        globalSeed = seed;
+    }
+
+    /**
+     * Creates a new generator whose sequence depends only on this generator's seed and the specified id,
+     * and not on how many values have been generated.
+     */
+    public DataGenerator fork(long id) {
+        return new DataGenerator(mix(seed + (id + 1) * GOLDEN));
+    }
+
+    public int nextInt(int bound) {
+        return random.nextInt(bound);
+    }
+
+    public int nextInt() {
+        return random.nextInt();
+    }
+
+    public long nextLong() {
+        return random.nextLong();
+    }
+
+    public double nextDouble() {
+        return random.nextDouble();
+    }
+
+    public boolean nextBoolean() {
+        return random.nextBoolean();
+    }
+
+    /** generates a lowercase word of 3 to 12 letters */
+    public String nextWord() {
+        return word(random.nextLong());
+    }
+
+    /**
+     * Generates the next value of the specified column: Integer, Long, Double, Boolean, String, or null.
+     * The values of a column with limited cardinality are derived from this generator's seed,
+     * see {@link #next(Column, long)}.
+     */
+    public Object next(Column c) {
+        return next(c, seed);
+    }
+
+    /**
+     * Generates the next value of the specified column: Integer, Long, Double, Boolean, String, or null.
+     * The values of a column with limited cardinality are picked from the set determined by
+     * {@code columnSeed}, which must be the same for all the cells of the column even when
+     * each cell uses its own generator.
+     */
+    public Object next(Column c, long columnSeed) {
+        if (c.nullRatio() > 0.0) {
+            if (random.nextDouble() < c.nullRatio()) {
+                return null;
+            }
+        }
+
+        double u = switch (c.distribution()) {
+        case NORMAL -> Math.min(Math.max(0.5 + nextGaussian() / 6.0, 0.0), Math.nextDown(1.0));
+        case SKEWED -> {
+            double v = random.nextDouble();
+            yield v * v * v;
+        }
+        default -> random.nextDouble();
+        };
+
+        if (c.cardinality() > 0) {
+            // the same index always maps to the same value
+            long k = mix(columnSeed ^ (long)(u * c.cardinality()));
+            return switch (c.type()) {
+            case INT -> (int)k;
+            case LONG -> k;
+            case DOUBLE -> (k >>> 11) * 0x1.0p-53 * 1_000_000.0;
+            case BOOLEAN -> (k & 1) != 0;
+            case STRING -> word(k);
+            };
+        }
+
+        return switch (c.type()) {
+        case INT -> (int)(u * 0x1.0p32 - 0x1.0p31);
+        // a double carries only 53 significant bits, the low bits are filled randomly
+        case LONG -> (long)(u * 0x1.0p64 - 0x1.0p63) ^ (random.nextLong() & 0x7FFL);
+        case DOUBLE -> u * 1_000_000.0;
+        case BOOLEAN -> u < 0.5;
+        case STRING -> word(mix(Double.doubleToRawLongBits(u)));
+        };
+    }
+
+    private double nextGaussian() {
+        // Box-Muller
+        double u1 = 1.0 - random.nextDouble();
+        double u2 = random.nextDouble();
+        return Math.sqrt(-2.0 * Math.log(u1)) * Math.cos(2.0 * Math.PI * u2);
+    }
+
+    private static String word(long k) {
+        k = mix(k);
+        int len = 3 + (int)((k >>> 60) % 10);
+        char[] cs = new char[len];
+        for (int i = 0; i < len; i++) {
+            cs[i] = (char)('a' + Math.floorMod(k, 26));
+            k = Long.rotateRight(k, 5);
+            if (i % 8 == 7) {
+                k = mix(k);
+            }
+        }
+        return new String(cs);
+    }
+
+    /** MurmurHash3 64-bit finalizer */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 33)) * 0xFF51AFD7ED558CCDL;
+        z = (z ^ (z >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return z ^ (z >>> 33);
+    }
+
+    /**
+     * Converts the text to the column type, or returns the text as is when it cannot be converted.
+     */
+    public static Object parse(Type type, String text) {
+        if (text != null) {
+            String s = text.trim();
+            try {
+                switch (type) {
+                case INT:
+                    return Integer.parseInt(s);
+                case LONG:
+                    return Long.parseLong(s);
+                case DOUBLE:
+                    return Double.parseDouble(s);
+                case BOOLEAN:
+                    if ("true".equalsIgnoreCase(s) || "false".equalsIgnoreCase(s)) {
+                        return Boolean.parseBoolean(s);
+                    }
+                    break;
+                default:
+                    break;
+                }
+            } catch (NumberFormatException e) {
+                // fall through
+            }
+        }
+        return text;
+    }
+}
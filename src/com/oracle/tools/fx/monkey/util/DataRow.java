@@ -25,34 +25,75 @@
 package com.oracle.tools.fx.monkey.util;
 
 import java.util.HashMap;
-import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.SimpleObjectProperty;
+import javafx.scene.control.TableColumnBase;
 import javafx.util.StringConverter;
+import com.oracle.tools.fx.monkey.util.DataGenerator.Column;
+import com.oracle.tools.fx.monkey.util.DataGenerator.Distribution;
+import com.oracle.tools.fx.monkey.util.DataGenerator.Type;
 
 /**
  * Elastic Data Row (With Randomly Generated Values)
+ * <p>
+ * The values are typed and deterministic: each value depends only on the global seed, the row id,
+ * and the column name, so it does not matter in which order the cells get rendered.
  */
 public class DataRow {
-    private final HashMap<Object, ObjectProperty> values = new HashMap();
+    private static final Column[] COLUMNS = {
+        Column.of(Type.INT),
+        new Column(Type.LONG, Distribution.SKEWED, 0, 0.0),
+        new Column(Type.DOUBLE, Distribution.NORMAL, 0, 0.0),
+        Column.of(Type.BOOLEAN),
+        new Column(Type.STRING, Distribution.SKEWED, 1000, 0.05)
+    };
+    private static final AtomicLong seq = new AtomicLong(1_000_000_000L);
+    private final long id;
+    private HashMap<Object, ObjectProperty> values;
     private static StringConverter<Object> converter;
 
+    /** creates a row with the specified id */
+    public DataRow(long id) {
+        this.id = id;
+    }
+
+    /** creates a row with the next id from a sequence */
     public DataRow() {
+        this(seq.getAndIncrement());
     }
 
     public ObjectProperty getValue(Object key) {
+        if (values == null) {
+            values = new HashMap<>();
+        }
         ObjectProperty rv = values.get(key);
         if (rv == null) {
-            Object v = createValue();
-            rv = new SimpleObjectProperty(v);
+            rv = createValue(key);
             values.put(key, rv);
         }
         return rv;
     }
 
-    private Object createValue() {
-        // TODO doubles, longs, strings, integers, boolean
-        return String.valueOf(new Random().nextInt());
+    private ObjectProperty createValue(Object key) {
+        String name = (key instanceof TableColumnBase c) ? c.getText() : String.valueOf(key);
+        int hash = (name == null) ? 0 : name.hashCode();
+        Column c = COLUMNS[Math.floorMod(hash, COLUMNS.length)];
+        DataGenerator g = DataGenerator.create("DataRow").fork(hash);
+        Object v = g.fork(id).next(c, g.getSeed());
+        return new SimpleObjectProperty(v) {
+            @Override
+            public void set(Object x) {
+                if (x instanceof String s) {
+                    x = DataGenerator.parse(c.type(), s);
+                    if ((x instanceof String) && (c.type() != Type.STRING)) {
+                        // keep the old value
+                        return;
+                    }
+                }
+                super.set(x);
+            }
+        };
     }
 
     public static StringConverter<Object> converter() {
@@ -37,8 +37,61 @@ import jfx.incubator.scene.control.richtext.model.StyleAttributeMap;
  * Simple {@code SyntaxDecorator} which emphasizes digits and keywords.
  */
 public class DemoSyntaxDecorator implements SyntaxDecorator {
-    private static final StyleAttributeMap DIGITS = StyleAttributeMap.builder().setTextColor(Color.MAGENTA).build();
-    private static final StyleAttributeMap KEYWORDS = StyleAttributeMap.builder().setTextColor(Color.GREEN).build();
+    static final StyleAttributeMap DIGITS = StyleAttributeMap.builder().setTextColor(Color.MAGENTA).build();
+    static final StyleAttributeMap KEYWORDS = StyleAttributeMap.builder().setTextColor(Color.GREEN).build();
+    /** the keywords, also used by {@link CachedSyntaxDecorator} */
+    static final String[] KEYWORDS_LIST = {
+        "abstract",
+        "assert",
+        "boolean",
+        "break",
+        "byte",
+        "case",
+        "catch",
+        "char",
+        "class",
+        "const",
+        "continue",
+        "default",
+        "do",
+        "double",
+        "else",
+        "enum",
+        "extends",
+        "final",
+        "finally",
+        "float",
+        "for",
+        "goto",
+        "if",
+        "implements",
+        "import",
+        "instanceof",
+        "int",
+        "interface",
+        "long",
+        "native",
+        "new",
+        "package",
+        "private",
+        "protected",
+        "public",
+        "return",
+        "short",
+        "static",
+        "strictfp",
+        "super",
+        "switch",
+        "synchronized",
+        "this",
+        "throw",
+        "throws",
+        "transient",
+        "try",
+        "void",
+        "volatile",
+        "while"
+    };
     private static Pattern PATTERN = initPattern();
 
     public DemoSyntaxDecorator() {
@@ -75,65 +128,12 @@ public class DemoSyntaxDecorator implements SyntaxDecorator {
     }
 
     private static Pattern initPattern() {
-        String[] keywords = {
-            "abstract",
-            "assert",
-            "boolean",
-            "break",
-            "byte",
-            "case",
-            "catch",
-            "char",
-            "class",
-            "const",
-            "continue",
-            "default",
-            "do",
-            "double",
-            "else",
-            "enum",
-            "extends",
-            "final",
-            "finally",
-            "float",
-            "for",
-            "goto",
-            "if",
-            "implements",
-            "import",
-            "instanceof",
-            "int",
-            "interface",
-            "long",
-            "native",
-            "new",
-            "package",
-            "private",
-            "protected",
-            "public",
-            "return",
-            "short",
-            "static",
-            "strictfpv",
-            "super",
-            "switch",
-            "synchronized",
-            "this",
-            "throw",
-            "throws",
-            "transient",
-            "try",
-            "void",
-            "volatile",
-            "while"
-        };
-
         StringBuilder sb = new StringBuilder();
         // digits
         sb.append("(\\b\\d+\\b)");
 
         // keywords
-        for (String k : keywords) {
+        for (String k : KEYWORDS_LIST) {
             sb.append("|\\b(");
             sb.append(k);
             sb.append(")\\b");
@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package com.oracle.tools.fx.monkey.util;
+
+import java.util.Arrays;
+
+/**
+ * Downsampling algorithms for large series sorted by x.
+ * Both methods return the indexes of the selected points, in ascending order.
+ */
+public class Downsampling {
+    /**
+     * Largest-Triangle-Three-Buckets: keeps the first and the last point, and from each of the
+     * (threshold - 2) buckets in between selects the point forming the largest triangle with
+     * the previously selected point and the average of the next bucket.
+     *
+     * @param x the x values, sorted
+     * @param y the y values
+     * @param from the start index (inclusive)
+     * @param to the end index (exclusive)
+     * @param threshold the number of points to select, at least 3
+     * @return the selected indexes
+     */
+    public static int[] lttb(double[] x, double[] y, int from, int to, int threshold) {
+        int n = to - from;
+        if ((n <= threshold) || (threshold < 3)) {
+            return range(from, to);
+        }
+
+        int[] rv = new int[threshold];
+        int k = 0;
+        double every = (n - 2) / (double)(threshold - 2);
+        int a = from;
+        rv[k++] = a;
+
+        for (int i = 0; i < threshold - 2; i++) {
+            // the average of the next bucket
+            int avgStart = from + 1 + (int)((i + 1) * every);
+            int avgEnd = Math.min(from + 1 + (int)((i + 2) * every), to);
+            if (avgStart >= avgEnd) {
+                // the last bucket: use the last point
+                avgStart = to - 1;
+                avgEnd = to;
+            }
+            double avgX = 0.0;
+            double avgY = 0.0;
+            for (int j = avgStart; j < avgEnd; j++) {
+                avgX += x[j];
+                avgY += y[j];
+            }
+            int len = avgEnd - avgStart;
+            avgX /= len;
+            avgY /= len;
+
+            // the point in this bucket forming the largest triangle
+            int start = from + 1 + (int)(i * every);
+            int end = from + 1 + (int)((i + 1) * every);
+            double ax = x[a];
+            double ay = y[a];
+            double max = -1.0;
+            int selected = start;
+            for (int j = start; j < end; j++) {
+                double area = Math.abs((ax - avgX) * (y[j] - ay) - (ax - x[j]) * (avgY - ay));
+                if (area > max) {
+                    max = area;
+                    selected = j;
+                }
+            }
+            rv[k++] = selected;
+            a = selected;
+        }
+
+        rv[k++] = to - 1;
+        return rv;
+    }
+
+    /**
+     * Min/Max per pixel column: for each of the columns spanning [x0, x1) selects the first, the last,
+     * the minimum, and the maximum point, which preserves the shape of the rendered line exactly.
+     *
+     * @param x the x values, sorted
+     * @param y the y values
+     * @param from the start index (inclusive)
+     * @param to the end index (exclusive)
+     * @param x0 the x value of the left edge
+     * @param x1 the x value of the right edge
+     * @param columns the number of pixel columns
+     * @return the selected indexes
+     */
+    public static int[] minMax(double[] x, double[] y, int from, int to, double x0, double x1, int columns) {
+        int n = to - from;
+        if ((n <= 4 * columns) || (columns < 1) || !(x1 > x0)) {
+            return range(from, to);
+        }
+
+        int[] rv = new int[4 * (columns + 2)];
+        int k = 0;
+        double scale = columns / (x1 - x0);
+        int col = Integer.MIN_VALUE;
+        int first = -1;
+        int min = -1;
+        int max = -1;
+        int last = -1;
+
+        for (int i = from; i <= to; i++) {
+            int c = (i < to) ? (int)Math.floor((x[i] - x0) * scale) : Integer.MAX_VALUE;
+            if (c != col) {
+                if (first >= 0) {
+                    // emit in index order, skipping duplicates
+                    int lo = Math.min(min, max);
+                    int hi = Math.max(min, max);
+                    rv = ensureCapacity(rv, k + 4);
+                    rv[k++] = first;
+                    if (lo != first) {
+                        rv[k++] = lo;
+                    }
+                    if ((hi != lo) && (hi != last)) {
+                        rv[k++] = hi;
+                    }
+                    if ((last != first) && (last != lo)) {
+                        rv[k++] = last;
+                    }
+                }
+                if (i == to) {
+                    break;
+                }
+                col = c;
+                first = i;
+                min = i;
+                max = i;
+            } else {
+                if (y[i] < y[min]) {
+                    min = i;
+                }
+                if (y[i] > y[max]) {
+                    max = i;
+                }
+            }
+            last = i;
+        }
+        return Arrays.copyOf(rv, k);
+    }
+
+    /** returns the index of the first value greater than or equal to v */
+    public static int lowerBound(double[] x, int size, double v) {
+        int lo = 0;
+        int hi = size;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (x[mid] < v) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    private static int[] ensureCapacity(int[] a, int size) {
+        if (size > a.length) {
+            return Arrays.copyOf(a, Math.max(size, a.length * 2));
+        }
+        return a;
+    }
+
+    private static int[] range(int from, int to) {
+        int[] rv = new int[Math.max(0, to - from)];
+        for (int i = 0; i < rv.length; i++) {
+            rv[i] = from + i;
+        }
+        return rv;
+    }
+}
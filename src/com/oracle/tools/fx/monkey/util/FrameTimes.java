@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package com.oracle.tools.fx.monkey.util;
+
+import java.util.Arrays;
+
+/**
+ * Keeps the most recent time samples (in nanoseconds) in a ring buffer and computes percentiles.
+ */
+public class FrameTimes {
+    private final long[] samples;
+    private long count;
+
+    public FrameTimes(int capacity) {
+        samples = new long[capacity];
+    }
+
+    public void add(long nanos) {
+        samples[(int)(count % samples.length)] = nanos;
+        count++;
+    }
+
+    public void clear() {
+        count = 0;
+    }
+
+    /** returns the number of samples in the buffer */
+    public int size() {
+        return (int)Math.min(count, samples.length);
+    }
+
+    /** returns the samples in the buffer, sorted */
+    public long[] sorted() {
+        long[] a = Arrays.copyOf(samples, size());
+        Arrays.sort(a);
+        return a;
+    }
+
+    /** returns the percentile (0..100) from the sorted samples, in milliseconds */
+    public static double percentile(long[] sorted, double p) {
+        if (sorted.length == 0) {
+            return 0.0;
+        }
+        int ix = (int)Math.ceil(p / 100.0 * sorted.length) - 1;
+        ix = Math.max(0, Math.min(sorted.length - 1, ix));
+        return sorted[ix] / 1_000_000.0;
+    }
+
+    /** returns a summary such as "p50=16.67 p90=16.70 p99=33.30 max=40.12 ms" */
+    public String summary() {
+        long[] a = sorted();
+        return String.format(
+            "p50=%.2f p90=%.2f p99=%.2f max=%.2f ms",
+            percentile(a, 50),
+            percentile(a, 90),
+            percentile(a, 99),
+            percentile(a, 100));
+    }
+}
@@ -25,10 +25,8 @@
 
 package com.oracle.tools.fx.monkey.util;
 
-import java.text.DecimalFormat;
-import javafx.scene.Node;
-import javafx.scene.text.Text;
-import javafx.scene.text.TextFlow;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import jfx.incubator.scene.control.richtext.StyleResolver;
 import jfx.incubator.scene.control.richtext.TextPos;
 import jfx.incubator.scene.control.richtext.model.BasicTextModel;
@@ -38,17 +36,56 @@ import jfx.incubator.scene.control.richtext.model.StyledTextModelViewOnlyBase;
 
 /**
  * Huge Sample Model.
+ * <p>
+ * The paragraphs are generated on demand and kept in a small LRU cache, since the view
+ * requests the same paragraphs repeatedly while scrolling.
+ * Expected to be accessed from the FX application thread only.
  *
  * TODO: tabs, empty lines
  */
 public class HugeTextModel extends StyledTextModelViewOnlyBase {
     private static final int SIZE = Integer.MAX_VALUE;
-    private static final DecimalFormat FORMAT = new DecimalFormat("#,##0");
-    private static final String SIZE_FORMATTED = FORMAT.format(SIZE);
+    private static final String SIZE_FORMATTED = format(SIZE);
+    private static final int CACHE_SIZE = 512;
+    // CSS class names: see MainWindow.stylesheet()
+    private static final String[] CSS_NONE = new String[0];
+    private static final String[] CSS_LARGE = { "large" };
+    private static final String[] CSS_MONOSPACED = { "monospaced" };
+    private static final String[] CSS_MONOSPACED_LARGE = { "monospaced large" };
+    private static final String[] DIGITS = {
+        " zero",
+        " one",
+        " two",
+        " three",
+        " four",
+        " five",
+        " six",
+        " seven",
+        " eight",
+        " nine"
+    };
+    private final StringBuilder sb = new StringBuilder(128);
+    private final Cache<RichParagraph> paragraphs = new Cache<>(CACHE_SIZE);
+    private final Cache<String> texts = new Cache<>(CACHE_SIZE);
 
     public HugeTextModel() {
     }
 
+    /** Bounded LRU cache keyed by the paragraph index. */
+    private static class Cache<T> extends LinkedHashMap<Integer, T> {
+        private final int capacity;
+
+        public Cache(int capacity) {
+            super(capacity, 0.75f, true);
+            this.capacity = capacity;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Integer, T> eldest) {
+            return size() > capacity;
+        }
+    }
+
     @Override
     public int size() {
         return SIZE;
@@ -61,32 +98,39 @@ public class HugeTextModel extends StyledTextModelViewOnlyBase {
 
     @Override
     public String getPlainText(int index) {
-        RichParagraph p = getParagraph(index);
-        return p.getPlainText();
+        String s = texts.get(index);
+        if (s == null) {
+            s = createPlainText(sb, index, isMonospaced(index));
+            texts.put(index, s);
+        }
+        return s;
     }
 
-    private static String getText(TextFlow f) {
-        StringBuilder sb = new StringBuilder();
-        for (Node n : f.getChildrenUnmodifiable()) {
-            if (n instanceof Text t) {
-                sb.append(t.getText());
-            }
+    @Override
+    public RichParagraph getParagraph(int index) {
+        RichParagraph p = paragraphs.get(index);
+        if (p == null) {
+            p = createParagraph(index);
+            paragraphs.put(index, p);
         }
-        return sb.toString();
+        return p;
     }
 
-    @Override
-    public RichParagraph getParagraph(int ix) {
-        // CSS class names: see MainWindow.stylesheet()
-        boolean monospaced = (((ix / 100) % 10) == 2);
+    private static boolean isMonospaced(int ix) {
+        return (((ix / 100) % 10) == 2);
+    }
+
+    private RichParagraph createParagraph(int ix) {
+        boolean monospaced = isMonospaced(ix);
         boolean large = (ix % 100) == 0;
-        RichParagraph.Builder b = RichParagraph.builder();
-        String s = FORMAT.format(ix + 1);
         String[] css = monospaced ?
-            (large ? new String[] { "monospaced large" } : new String[] { "monospaced" }) :
-            (large ? new String[] { "large" } : new String[0]);
+            (large ? CSS_MONOSPACED_LARGE : CSS_MONOSPACED) :
+            (large ? CSS_LARGE : CSS_NONE);
 
-        b.addWithInlineAndStyleNames(s, "-fx-fill:darkgreen;", css);
+        RichParagraph.Builder b = RichParagraph.builder();
+        sb.setLength(0);
+        appendFormatted(sb, ix + 1);
+        b.addWithInlineAndStyleNames(sb.toString(), "-fx-fill:darkgreen;", css);
         b.addWithStyleNames(" / ", css);
         b.addWithInlineAndStyleNames(SIZE_FORMATTED, "-fx-fill:black;", css);
         if (monospaced) {
@@ -94,54 +138,69 @@ public class HugeTextModel extends StyledTextModelViewOnlyBase {
         }
 
         if ((ix % 10) == 9) {
-            String words = generateWords(ix + 1);
-            b.addWithStyleNames(words, css);
+            sb.setLength(0);
+            appendWords(sb, ix + 1);
+            b.addWithStyleNames(sb.toString(), css);
         }
         return b.build();
     }
 
-    private static String generateWords(int ix) {
-        String s = String.valueOf(ix);
-        StringBuilder sb = new StringBuilder(128);
-        for (char c: s.toCharArray()) {
-            String digit = getDigit(c);
-            sb.append(digit);
+    /** creates the plain text without building the paragraph, using the supplied builder */
+    private static String createPlainText(StringBuilder sb, int ix, boolean monospaced) {
+        sb.setLength(0);
+        appendFormatted(sb, ix + 1);
+        sb.append(" / ");
+        sb.append(SIZE_FORMATTED);
+        if (monospaced) {
+            sb.append(" (monospaced)");
+        }
+        if ((ix % 10) == 9) {
+            appendWords(sb, ix + 1);
         }
         return sb.toString();
     }
 
-    private static String getDigit(char c) {
-        switch (c) {
-        case '0':
-            return " zero";
-        case '1':
-            return " one";
-        case '2':
-            return " two";
-        case '3':
-            return " three";
-        case '4':
-            return " four";
-        case '5':
-            return " five";
-        case '6':
-            return " six";
-        case '7':
-            return " seven";
-        case '8':
-            return " eight";
-        default:
-            return " nine";
+    /** formats the non-negative value with the grouping separators, like "#,##0" */
+    private static String format(int value) {
+        StringBuilder sb = new StringBuilder(16);
+        appendFormatted(sb, value);
+        return sb.toString();
+    }
+
+    private static void appendFormatted(StringBuilder sb, int value) {
+        if (value >= 1000) {
+            appendFormatted(sb, value / 1000);
+            int rem = value % 1000;
+            sb.append(',');
+            if (rem < 100) {
+                sb.append('0');
+            }
+            if (rem < 10) {
+                sb.append('0');
+            }
+            sb.append(rem);
+        } else {
+            sb.append(value);
+        }
+    }
+
+    /** appends the decimal digits of the non-negative value as words */
+    private static void appendWords(StringBuilder sb, int value) {
+        if (value >= 10) {
+            appendWords(sb, value / 10);
         }
+        sb.append(DIGITS[value % 10]);
     }
 
     /**
      * Creates read-only huge content for CodeTextModel.
-     * @param size the size
      * @return the new BasicTextModel.Content instance
      */
     public static BasicTextModel.Content createContent() {
         return new BasicTextModel.Content() {
+            private final StringBuilder sb = new StringBuilder(128);
+            private final Cache<String> texts = new Cache<>(CACHE_SIZE);
+
             @Override
             public int size() {
                 return SIZE;
@@ -149,18 +208,12 @@ public class HugeTextModel extends StyledTextModelViewOnlyBase {
 
             @Override
             public String getText(int ix) {
-                boolean large = (ix % 100) == 0;
-                RichParagraph.Builder b = RichParagraph.builder();
-                String s = FORMAT.format(ix + 1);
-                StringBuilder sb = new StringBuilder();
-                sb.append(s);
-                sb.append(" / ");
-                sb.append(SIZE_FORMATTED);
-                if ((ix % 10) == 9) {
-                    String words = generateWords(ix + 1);
-                    sb.append(words);
+                String s = texts.get(ix);
+                if (s == null) {
+                    s = createPlainText(sb, ix, false);
+                    texts.put(ix, s);
                 }
-                return sb.toString();
+                return s;
             }
 
             @Override
@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package com.oracle.tools.fx.monkey.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+
+/**
+ * Read-only, memory-mapped text file of any size (UTF-8).
+ * <p>
+ * The file is mapped in 1 GB segments.  The line index is sparse: it keeps the offset of every
+ * {@code STRIDE}-th line, built by {@link #scan(BackgroundChoice.Progress)}, and the remaining
+ * lines are located by scanning forward from the nearest indexed line.
+ * Decoded lines are kept in a small LRU cache.
+ * <p>
+ * Other than the scan, the methods are expected to be called in the FX application thread.
+ */
+public class MappedTextFile {
+    private static final int SEGMENT_SHIFT = 30;
+    private static final long SEGMENT_MASK = (1L << SEGMENT_SHIFT) - 1;
+    private static final int STRIDE = 32;
+    private static final int CACHE_SIZE = 1024;
+    /** lines longer than this are truncated */
+    private static final int MAX_LINE_BYTES = 1 << 20;
+    private final File file;
+    private final long length;
+    private final MappedByteBuffer[] segments;
+    private long[] index = new long[1024];
+    private int lineCount;
+    private final LinkedHashMap<Integer, String> cache = new LinkedHashMap<>(CACHE_SIZE, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Integer, String> eldest) {
+            return size() > CACHE_SIZE;
+        }
+    };
+
+    public MappedTextFile(File file) throws IOException {
+        this.file = file;
+        try (FileChannel ch = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            length = ch.size();
+            int n = (int)((length + SEGMENT_MASK) >>> SEGMENT_SHIFT);
+            segments = new MappedByteBuffer[n];
+            for (int i = 0; i < n; i++) {
+                long start = (long)i << SEGMENT_SHIFT;
+                long size = Math.min(length - start, 1L << SEGMENT_SHIFT);
+                segments[i] = ch.map(FileChannel.MapMode.READ_ONLY, start, size);
+            }
+        }
+    }
+
+    public File getFile() {
+        return file;
+    }
+
+    /**
+     * Builds the sparse line index.  Must be called once, before the lines are accessed.
+     * Throws CancellationException when cancelled.
+     */
+    public void scan(BackgroundChoice.Progress p) {
+        int lines = 1;
+        index[0] = 0;
+        long pos = 0;
+        for (MappedByteBuffer seg: segments) {
+            int sz = seg.limit();
+            for (int i = 0; i < sz; i++) {
+                if (seg.get(i) == '\n') {
+                    if ((lines % STRIDE) == 0) {
+                        int ix = lines / STRIDE;
+                        if (ix == index.length) {
+                            index = Arrays.copyOf(index, ix * 2);
+                        }
+                        index[ix] = pos + i + 1;
+                    }
+                    if (lines == Integer.MAX_VALUE) {
+                        // the model cannot address more lines
+                        lineCount = lines;
+                        return;
+                    }
+                    lines++;
+                }
+
+                if ((i & 0xffffff) == 0) {
+                    if (p.isCancelled()) {
+                        throw new CancellationException();
+                    }
+                    p.setProgress((pos + i) / (double)length);
+                }
+            }
+            pos += sz;
+        }
+        lineCount = lines;
+    }
+
+    /** returns the number of lines */
+    public int size() {
+        return lineCount;
+    }
+
+    private byte byteAt(long pos) {
+        return segments[(int)(pos >>> SEGMENT_SHIFT)].get((int)(pos & SEGMENT_MASK));
+    }
+
+    /** returns the text of the line, without the line separator */
+    public String getLine(int ix) {
+        String s = cache.get(ix);
+        if (s == null) {
+            s = decode(ix);
+            cache.put(ix, s);
+        }
+        return s;
+    }
+
+    private long lineStart(int ix) {
+        long pos = index[ix / STRIDE];
+        for (int n = ix % STRIDE; n > 0; n--) {
+            while (byteAt(pos++) != '\n') {
+                // skip
+            }
+        }
+        return pos;
+    }
+
+    private String decode(int ix) {
+        long start = lineStart(ix);
+        long end = start;
+        long max = Math.min(length, start + MAX_LINE_BYTES);
+        while ((end < max) && (byteAt(end) != '\n')) {
+            end++;
+        }
+        if ((end > start) && (byteAt(end - 1) == '\r')) {
+            end--;
+        }
+
+        byte[] b = new byte[(int)(end - start)];
+        int seg = (int)(start >>> SEGMENT_SHIFT);
+        if (seg == (int)((end - 1) >>> SEGMENT_SHIFT)) {
+            segments[seg].get((int)(start & SEGMENT_MASK), b);
+        } else {
+            // spans two segments
+            for (int i = 0; i < b.length; i++) {
+                b[i] = byteAt(start + i);
+            }
+        }
+        return new String(b, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package com.oracle.tools.fx.monkey.util;
+
+import jfx.incubator.scene.control.richtext.StyleResolver;
+import jfx.incubator.scene.control.richtext.TextPos;
+import jfx.incubator.scene.control.richtext.model.BasicTextModel;
+import jfx.incubator.scene.control.richtext.model.RichParagraph;
+import jfx.incubator.scene.control.richtext.model.StyleAttributeMap;
+import jfx.incubator.scene.control.richtext.model.StyledTextModelViewOnlyBase;
+
+/**
+ * Read-only model backed by a memory-mapped text file.
+ */
+public class MappedTextModel extends StyledTextModelViewOnlyBase {
+    private final MappedTextFile file;
+
+    public MappedTextModel(MappedTextFile file) {
+        this.file = file;
+    }
+
+    @Override
+    public int size() {
+        return file.size();
+    }
+
+    @Override
+    public StyleAttributeMap getStyleAttributeMap(StyleResolver resolver, TextPos pos, boolean forInsert) {
+        return StyleAttributeMap.EMPTY;
+    }
+
+    @Override
+    public String getPlainText(int index) {
+        return file.getLine(index);
+    }
+
+    @Override
+    public RichParagraph getParagraph(int index) {
+        RichParagraph.Builder b = RichParagraph.builder();
+        b.addSegment(file.getLine(index));
+        return b.build();
+    }
+
+    /**
+     * Creates read-only content for CodeTextModel backed by a memory-mapped text file.
+     * @param file the scanned file
+     * @return the new BasicTextModel.Content instance
+     */
+    public static BasicTextModel.Content createContent(MappedTextFile file) {
+        return new BasicTextModel.Content() {
+            @Override
+            public int size() {
+                return file.size();
+            }
+
+            @Override
+            public String getText(int index) {
+                return file.getLine(index);
+            }
+
+            @Override
+            public int insertTextSegment(int index, int offset, String text, StyleAttributeMap attrs) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public void insertLineBreak(int index, int offset) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public void removeRange(TextPos start, TextPos end) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public boolean isWritable() {
+                return false;
+            }
+        };
+    }
+}
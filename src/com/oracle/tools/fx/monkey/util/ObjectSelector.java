@@ -32,10 +32,21 @@ import javafx.scene.control.ComboBox;
  * Unidirectional Object Selector.
  */
 public class ObjectSelector<T> extends ComboBox<NamedValue<T>> {
+    private final BackgroundChoice.Support<T> background;
+
     public ObjectSelector(String name, Consumer<T> client) {
         FX.name(this, name);
+        background = new BackgroundChoice.Support<>(this);
 
         getSelectionModel().selectedItemProperty().addListener((s, pr, c) -> {
+            background.cancel();
+            if (c == null) {
+                return;
+            } else if (c instanceof BackgroundChoice<T> b) {
+                background.start(b, client);
+                return;
+            }
+
             T v = c.getValue();
             try {
                 client.accept(v);
@@ -62,6 +73,14 @@ public class ObjectSelector<T> extends ComboBox<NamedValue<T>> {
         });
     }
 
+    /**
+     * Adds a choice whose value is generated in a background thread.
+     * Selecting another choice or pressing ESC cancels the generation.
+     */
+    public void addBackgroundChoice(String name, BackgroundChoice.Generator<T> gen) {
+        getItems().add(new BackgroundChoice<>(name, gen));
+    }
+
     public void select(int ix) {
         if ((ix >= 0) && (ix < getItems().size())) {
             getSelectionModel().select(ix);
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package com.oracle.tools.fx.monkey.util;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Stable parallel merge sort of int indexes, using the common fork/join pool.
+ */
+public class ParallelSort {
+    @FunctionalInterface
+    public interface IntComparator {
+        public int compare(int a, int b);
+    }
+
+    /** below this size the ranges are sorted sequentially */
+    private static final int THRESHOLD = 8192;
+    private static final int INSERTION_SORT_THRESHOLD = 32;
+
+    /**
+     * Sorts the array in place.  The sort is stable: equal elements keep their relative order.
+     */
+    public static void sort(int[] a, IntComparator c) {
+        int[] tmp = new int[a.length];
+        if (a.length <= THRESHOLD) {
+            sort(a, tmp, 0, a.length, c);
+        } else {
+            ForkJoinPool.commonPool().invoke(new SortTask(a, tmp, 0, a.length, c));
+        }
+    }
+
+    private static void sort(int[] a, int[] tmp, int lo, int hi, IntComparator c) {
+        if (hi - lo <= INSERTION_SORT_THRESHOLD) {
+            for (int i = lo + 1; i < hi; i++) {
+                int v = a[i];
+                int j = i - 1;
+                while ((j >= lo) && (c.compare(a[j], v) > 0)) {
+                    a[j + 1] = a[j];
+                    j--;
+                }
+                a[j + 1] = v;
+            }
+            return;
+        }
+
+        int mid = (lo + hi) >>> 1;
+        sort(a, tmp, lo, mid, c);
+        sort(a, tmp, mid, hi, c);
+        merge(a, tmp, lo, mid, hi, c);
+    }
+
+    private static void merge(int[] a, int[] tmp, int lo, int mid, int hi, IntComparator c) {
+        if (c.compare(a[mid - 1], a[mid]) <= 0) {
+            // already in order
+            return;
+        }
+
+        System.arraycopy(a, lo, tmp, lo, hi - lo);
+        int i = lo;
+        int j = mid;
+        int k = lo;
+        while ((i < mid) && (j < hi)) {
+            // taking from the left on ties keeps the sort stable
+            if (c.compare(tmp[i], tmp[j]) <= 0) {
+                a[k++] = tmp[i++];
+            } else {
+                a[k++] = tmp[j++];
+            }
+        }
+        while (i < mid) {
+            a[k++] = tmp[i++];
+        }
+        while (j < hi) {
+            a[k++] = tmp[j++];
+        }
+    }
+
+    private static class SortTask extends RecursiveAction {
+        private final int[] a;
+        private final int[] tmp;
+        private final int lo;
+        private final int hi;
+        private final IntComparator c;
+
+        public SortTask(int[] a, int[] tmp, int lo, int hi, IntComparator c) {
+            this.a = a;
+            this.tmp = tmp;
+            this.lo = lo;
+            this.hi = hi;
+            this.c = c;
+        }
+
+        @Override
+        protected void compute() {
+            if (hi - lo <= THRESHOLD) {
+                sort(a, tmp, lo, hi, c);
+            } else {
+                int mid = (lo + hi) >>> 1;
+                invokeAll(new SortTask(a, tmp, lo, mid, c), new SortTask(a, tmp, mid, hi, c));
+                merge(a, tmp, lo, mid, hi, c);
+            }
+        }
+    }
+}
@@ -0,0 +1,280 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package com.oracle.tools.fx.monkey.util;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import javafx.animation.AnimationTimer;
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
+import javafx.scene.Scene;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.control.ContextMenu;
+import javafx.scene.control.Label;
+import javafx.scene.layout.HBox;
+import javafx.scene.paint.Color;
+import javafx.stage.FileChooser;
+
+/**
+ * Status bar overlay showing the pulse statistics of a Scene:
+ * frames per second, p50/p99 frame time, CSS+layout time, layout pass count, and GC pauses,
+ * with a rolling histogram of the recent frame times.
+ * <p>
+ * The frame time is the interval between consecutive AnimationTimer pulses, and the CSS+layout time
+ * is measured between the scene pre- and post-layout pulse listeners.
+ * All frames are recorded in a ring buffer which can be exported as CSV from the context menu.
+ */
+public class PulseMonitor extends HBox {
+    private static final int CAPACITY = 10_000;
+    private static final int BARS = 120;
+    /** milliseconds at the top of the histogram */
+    private static final double SCALE_MS = 50.0;
+    private final Scene scene;
+    private final Label text;
+    private final Canvas histogram;
+    private final Runnable preLayout = this::preLayout;
+    private final Runnable postLayout = this::postLayout;
+    private final AnimationTimer timer;
+    private final List<GarbageCollectorMXBean> collectors = ManagementFactory.getGarbageCollectorMXBeans();
+    // ring buffer
+    private final long[] times = new long[CAPACITY];
+    private final long[] frameTimes = new long[CAPACITY];
+    private final long[] layoutTimes = new long[CAPACITY];
+    private final boolean[] layoutPasses = new boolean[CAPACITY];
+    private long count;
+    // current pulse
+    private long pulseStart;
+    private long layoutTime;
+    private boolean layoutPass;
+    private long lastFrame;
+    // reporting
+    private long lastReport;
+    private long reportedCount;
+    private long gcCount;
+    private long gcTime;
+    private long start;
+
+    public PulseMonitor(Scene scene) {
+        this.scene = scene;
+
+        text = new Label();
+        text.setPadding(new Insets(2, 2, 2, 2));
+
+        histogram = new Canvas(BARS, 16);
+
+        setAlignment(Pos.CENTER_LEFT);
+        setSpacing(4);
+        getChildren().addAll(histogram, text);
+        FX.setPopupMenu(this, () -> {
+            ContextMenu m = new ContextMenu();
+            FX.item(m, "Export CSV...", this::exportCSV);
+            FX.item(m, "Clear", this::clear);
+            return m;
+        });
+
+        timer = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                frame(now);
+            }
+        };
+    }
+
+    public void start() {
+        clear();
+        scene.addPreLayoutPulseListener(preLayout);
+        scene.addPostLayoutPulseListener(postLayout);
+        timer.start();
+    }
+
+    public void stop() {
+        timer.stop();
+        scene.removePreLayoutPulseListener(preLayout);
+        scene.removePostLayoutPulseListener(postLayout);
+    }
+
+    public void clear() {
+        count = 0;
+        reportedCount = 0;
+        lastFrame = 0;
+        lastReport = 0;
+        start = System.nanoTime();
+        gcCount = gcCount();
+        gcTime = gcTime();
+        text.setText("measuring...");
+    }
+
+    private void preLayout() {
+        pulseStart = System.nanoTime();
+        layoutPass |= scene.getRoot().isNeedsLayout();
+    }
+
+    private void postLayout() {
+        layoutTime += System.nanoTime() - pulseStart;
+    }
+
+    private void frame(long now) {
+        if (lastFrame != 0) {
+            int ix = (int)(count % CAPACITY);
+            times[ix] = now - start;
+            frameTimes[ix] = now - lastFrame;
+            layoutTimes[ix] = layoutTime;
+            layoutPasses[ix] = layoutPass;
+            count++;
+        }
+        lastFrame = now;
+        layoutTime = 0;
+        layoutPass = false;
+
+        if (now - lastReport >= 1_000_000_000L) {
+            if (lastReport != 0) {
+                report(now - lastReport);
+            }
+            lastReport = now;
+        }
+    }
+
+    private int size() {
+        return (int)Math.min(count, CAPACITY);
+    }
+
+    private int indexOf(int i) {
+        return (int)((count - size() + i) % CAPACITY);
+    }
+
+    private void report(long elapsed) {
+        int n = (int)Math.min(count - reportedCount, CAPACITY);
+        reportedCount = count;
+
+        FrameTimes ft = new FrameTimes(Math.max(1, n));
+        FrameTimes lt = new FrameTimes(Math.max(1, n));
+        int layouts = 0;
+        for (int i = 0; i < n; i++) {
+            int ix = (int)((count - n + i) % CAPACITY);
+            ft.add(frameTimes[ix]);
+            lt.add(layoutTimes[ix]);
+            if (layoutPasses[ix]) {
+                layouts++;
+            }
+        }
+        long[] f = ft.sorted();
+        long[] l = lt.sorted();
+
+        long gcc = gcCount();
+        long gct = gcTime();
+        long gcs = gcc - gcCount;
+        long gcms = gct - gcTime;
+        gcCount = gcc;
+        gcTime = gct;
+
+        text.setText(String.format(
+            "%.1f fps, frame p50=%.1f p99=%.1f ms, css+layout p99=%.2f ms, %d layouts/s, GC %d (%d ms)",
+            n * 1_000_000_000.0 / elapsed,
+            FrameTimes.percentile(f, 50),
+            FrameTimes.percentile(f, 99),
+            FrameTimes.percentile(l, 99),
+            layouts,
+            gcs,
+            gcms));
+        paintHistogram();
+    }
+
+    private void paintHistogram() {
+        GraphicsContext g = histogram.getGraphicsContext2D();
+        double w = histogram.getWidth();
+        double h = histogram.getHeight();
+        g.setFill(Color.gray(0.9));
+        g.fillRect(0, 0, w, h);
+
+        int sz = size();
+        int n = Math.min(sz, BARS);
+        for (int i = 0; i < n; i++) {
+            int ix = indexOf(sz - n + i);
+            double ms = frameTimes[ix] / 1_000_000.0;
+            double bh = Math.min(h, h * ms / SCALE_MS);
+            // green up to 60 fps, orange up to 30 fps, then red
+            g.setFill(ms <= 17.0 ? Color.SEAGREEN : (ms <= 34.0 ? Color.ORANGE : Color.RED));
+            g.fillRect(BARS - n + i, h - bh, 1, bh);
+        }
+    }
+
+    private long gcCount() {
+        long rv = 0;
+        for (GarbageCollectorMXBean b: collectors) {
+            rv += Math.max(0, b.getCollectionCount());
+        }
+        return rv;
+    }
+
+    private long gcTime() {
+        long rv = 0;
+        for (GarbageCollectorMXBean b: collectors) {
+            rv += Math.max(0, b.getCollectionTime());
+        }
+        return rv;
+    }
+
+    private void exportCSV() {
+        FileChooser fc = new FileChooser();
+        fc.setTitle("Export Pulse Statistics");
+        fc.getExtensionFilters().add(new FileChooser.ExtensionFilter("CSV", "*.csv"));
+        fc.setInitialFileName("pulses.csv");
+        File f = fc.showSaveDialog(FX.getParentWindow(this));
+        if (f != null) {
+            try {
+                writeCSV(f);
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    private void writeCSV(File file) throws IOException {
+        try (Writer wr = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8))) {
+            wr.write("time_ns,frame_ns,css_layout_ns,layout_pass\r\n");
+            int sz = size();
+            for (int i = 0; i < sz; i++) {
+                int ix = indexOf(i);
+                wr.write(String.valueOf(times[ix]));
+                wr.write(',');
+                wr.write(String.valueOf(frameTimes[ix]));
+                wr.write(',');
+                wr.write(String.valueOf(layoutTimes[ix]));
+                wr.write(',');
+                wr.write(layoutPasses[ix] ? "1" : "0");
+                wr.write("\r\n");
+            }
+        }
+    }
+}
@@ -31,6 +31,7 @@ module monkey_tester {
     requires javafx.media;
     requires javafx.web;
     requires java.desktop;
+    requires java.management;
     requires javafx.swing;
     requires jfx.incubator.input;
     requires jfx.incubator.richtext;